@@ -1,16 +1,32 @@
 package com.showoff.incidentops.springboot.persistence.controller;
 
+import com.showoff.incidentops.springboot.config.TicketExportProperties;
+import com.showoff.incidentops.springboot.persistence.dto.BatchCreateIncidentTicketsRequest;
+import com.showoff.incidentops.springboot.persistence.dto.BatchCreateIncidentTicketsResponse;
+import com.showoff.incidentops.springboot.persistence.dto.BulkUpdateIncidentTicketStatusRequest;
+import com.showoff.incidentops.springboot.persistence.dto.BulkUpdateIncidentTicketStatusResponse;
 import com.showoff.incidentops.springboot.persistence.dto.CreateIncidentTicketRequest;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketPageResponse;
 import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketSliceResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusDuration;
+import com.showoff.incidentops.springboot.persistence.dto.TicketTransitionResponse;
 import com.showoff.incidentops.springboot.persistence.dto.UpdateIncidentTicketStatusRequest;
 import com.showoff.incidentops.springboot.persistence.service.IncidentTicketCommandService;
 import com.showoff.incidentops.springboot.persistence.service.IncidentTicketQueryService;
+import com.showoff.incidentops.springboot.persistence.service.TicketCountMode;
+import com.showoff.incidentops.springboot.persistence.service.TicketExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -20,8 +36,12 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.List;
 
 @Validated
 @RestController
@@ -29,13 +49,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class IncidentTicketController {
     private final IncidentTicketCommandService commandService;
     private final IncidentTicketQueryService queryService;
+    private final TicketExportProperties exportProperties;
 
     public IncidentTicketController(
         IncidentTicketCommandService commandService,
-        IncidentTicketQueryService queryService
+        IncidentTicketQueryService queryService,
+        TicketExportProperties exportProperties
     ) {
         this.commandService = commandService;
         this.queryService = queryService;
+        this.exportProperties = exportProperties;
     }
 
     @PostMapping
@@ -43,23 +66,37 @@ public class IncidentTicketController {
         return ResponseEntity.status(HttpStatus.CREATED).body(commandService.create(request));
     }
 
+    @PostMapping("/batch")
+    public BatchCreateIncidentTicketsResponse createAll(@Valid @RequestBody BatchCreateIncidentTicketsRequest request) {
+        return commandService.createAll(request.tickets());
+    }
+
     @PatchMapping("/{ticketId}/status")
-    public IncidentTicketResponse updateStatus(
+    public ResponseEntity<IncidentTicketResponse> updateStatus(
         @PathVariable("ticketId")
         @Pattern(regexp = "TKT-\\d+", message = "ticketId must match TKT-<digits>")
         String ticketId,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false)
+        String ifMatch,
         @Valid @RequestBody UpdateIncidentTicketStatusRequest request
     ) {
-        return commandService.updateStatus(ticketId, request.status());
+        return withETag(commandService.updateStatus(ticketId, request.status(), expectedVersion(ifMatch)));
+    }
+
+    @PatchMapping("/status")
+    public BulkUpdateIncidentTicketStatusResponse updateStatuses(
+        @Valid @RequestBody BulkUpdateIncidentTicketStatusRequest request
+    ) {
+        return commandService.updateStatuses(request);
     }
 
     @GetMapping("/{ticketId}")
-    public IncidentTicketResponse getById(
+    public ResponseEntity<IncidentTicketResponse> getById(
         @PathVariable("ticketId")
         @Pattern(regexp = "TKT-\\d+", message = "ticketId must match TKT-<digits>")
         String ticketId
     ) {
-        return queryService.getByTicketId(ticketId);
+        return withETag(queryService.getByTicketId(ticketId));
     }
 
     @GetMapping
@@ -78,6 +115,92 @@ public class IncidentTicketController {
         return queryService.listByStatus(status, page, size);
     }
 
+    @GetMapping(params = "countMode")
+    public IncidentTicketPageResponse listByStatusWithCountMode(
+        @RequestParam(name = "status", defaultValue = "OPEN")
+        @NotBlank(message = "status must not be blank")
+        String status,
+        @RequestParam(name = "page", defaultValue = "0")
+        @Min(value = 0, message = "page must be >= 0")
+        int page,
+        @RequestParam(name = "size", defaultValue = "20")
+        @Min(value = 1, message = "size must be >= 1")
+        @Max(value = 100, message = "size must be <= 100")
+        int size,
+        @RequestParam("countMode")
+        String countMode
+    ) {
+        return queryService.listByStatus(status, page, size, TicketCountMode.parse(countMode));
+    }
+
+    @GetMapping("/recent")
+    public IncidentTicketPageResponse listRecentByStatus(
+        @RequestParam(name = "status", defaultValue = "OPEN")
+        @NotBlank(message = "status must not be blank")
+        String status,
+        @RequestParam(name = "days", defaultValue = "7")
+        @Min(value = 1, message = "days must be between 1 and 90")
+        @Max(value = 90, message = "days must be between 1 and 90")
+        int days,
+        @RequestParam(name = "page", defaultValue = "0")
+        @Min(value = 0, message = "page must be >= 0")
+        int page,
+        @RequestParam(name = "size", defaultValue = "20")
+        @Min(value = 1, message = "size must be >= 1")
+        @Max(value = 100, message = "size must be <= 100")
+        int size
+    ) {
+        return queryService.listRecentByStatus(status, days, page, size);
+    }
+
+    @GetMapping("/{ticketId}/history")
+    public List<TicketTransitionResponse> history(
+        @PathVariable("ticketId")
+        @Pattern(regexp = "TKT-\\d+", message = "ticketId must match TKT-<digits>")
+        String ticketId
+    ) {
+        return queryService.getHistory(ticketId);
+    }
+
+    @GetMapping("/time-in-status")
+    public List<TicketStatusDuration> timeInStatus(
+        @RequestParam("ticketIds")
+        @Size(min = 1, max = 200, message = "ticketIds must contain between 1 and 200 items")
+        List<String> ticketIds
+    ) {
+        return queryService.timeInStatus(ticketIds);
+    }
+
+    @GetMapping("/stats")
+    public TicketStatsResponse stats(
+        @RequestParam(name = "status", required = false)
+        @Size(max = 32, message = "status must be <= 32 chars")
+        String status
+    ) {
+        return queryService.getStats(status);
+    }
+
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportByStatus(
+        @RequestParam(name = "status", required = false)
+        String status,
+        @RequestParam(name = "format", required = false)
+        String format,
+        HttpServletResponse response
+    ) {
+        TicketExportFormat exportFormat = TicketExportFormat.parse(format);
+        String exportStatus = queryService.resolveStatus(status);
+        response.setContentType(exportFormat.contentType());
+        response.setHeader(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("tickets." + exportFormat.fileExtension()).build().toString()
+        );
+        return new WebAsyncTask<>(exportProperties.timeout().toMillis(), () -> {
+            queryService.exportByStatus(exportStatus, exportFormat, response.getOutputStream());
+            return null;
+        });
+    }
+
     @GetMapping("/search")
     public Page<IncidentTicketResponse> searchByServiceAndSeverity(
         @RequestParam("serviceId")
@@ -97,4 +220,76 @@ public class IncidentTicketController {
     ) {
         return queryService.searchByServiceAndMinSeverity(serviceId, minSeverity, page, size);
     }
+
+    @GetMapping(value = "/search", params = "q")
+    public IncidentTicketSliceResponse searchBySummary(
+        @RequestParam("q")
+        @NotBlank(message = "q must not be blank")
+        @Size(max = 200, message = "q must be <= 200 chars")
+        String query,
+        @RequestParam(name = "cursor", required = false)
+        String cursor,
+        @RequestParam(name = "size", defaultValue = "20")
+        @Min(value = 1, message = "size must be >= 1")
+        @Max(value = 100, message = "size must be <= 100")
+        int size
+    ) {
+        return queryService.searchBySummary(query, cursor, size);
+    }
+
+    @GetMapping("/keyset")
+    public IncidentTicketSliceResponse listByStatusKeyset(
+        @RequestParam(name = "status", defaultValue = "OPEN")
+        @NotBlank(message = "status must not be blank")
+        String status,
+        @RequestParam(name = "cursor", required = false)
+        String cursor,
+        @RequestParam(name = "size", defaultValue = "20")
+        @Min(value = 1, message = "size must be >= 1")
+        @Max(value = 100, message = "size must be <= 100")
+        int size
+    ) {
+        return queryService.listByStatusAfter(status, cursor, size);
+    }
+
+    @GetMapping("/search/keyset")
+    public IncidentTicketSliceResponse searchByServiceAndSeverityKeyset(
+        @RequestParam("serviceId")
+        @NotBlank(message = "serviceId must not be blank")
+        String serviceId,
+        @RequestParam(name = "minSeverity", defaultValue = "1")
+        @Min(value = 1, message = "minSeverity must be between 1 and 5")
+        @Max(value = 5, message = "minSeverity must be between 1 and 5")
+        int minSeverity,
+        @RequestParam(name = "cursor", required = false)
+        String cursor,
+        @RequestParam(name = "size", defaultValue = "20")
+        @Min(value = 1, message = "size must be >= 1")
+        @Max(value = 100, message = "size must be <= 100")
+        int size
+    ) {
+        return queryService.searchByServiceAndMinSeverityAfter(serviceId, minSeverity, cursor, size);
+    }
+
+    private static ResponseEntity<IncidentTicketResponse> withETag(IncidentTicketResponse response) {
+        return ResponseEntity.ok().eTag("\"" + response.version() + "\"").body(response);
+    }
+
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be a single quoted ticket version");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("If-Match must be a single quoted ticket version");
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package com.showoff.incidentops.springboot.rest.exception;
 
 import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketNotFoundException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketTransitionException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketUpdateConflictException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketVersionConflictException;
 import com.showoff.incidentops.springboot.rest.pipeline.ApiCorrelationFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
@@ -57,6 +60,30 @@ public class GlobalApiExceptionHandler {
         return buildError(HttpStatus.NOT_FOUND, "TICKET_NOT_FOUND", ex.getMessage(), Map.of(), request);
     }
 
+    @ExceptionHandler(IncidentTicketVersionConflictException.class)
+    public ResponseEntity<ApiErrorResponse> handleTicketVersionConflict(
+        IncidentTicketVersionConflictException ex,
+        HttpServletRequest request
+    ) {
+        return buildError(HttpStatus.PRECONDITION_FAILED, "TICKET_VERSION_CONFLICT", ex.getMessage(), Map.of(), request);
+    }
+
+    @ExceptionHandler(IncidentTicketUpdateConflictException.class)
+    public ResponseEntity<ApiErrorResponse> handleTicketUpdateConflict(
+        IncidentTicketUpdateConflictException ex,
+        HttpServletRequest request
+    ) {
+        return buildError(HttpStatus.CONFLICT, "TICKET_UPDATE_CONFLICT", ex.getMessage(), Map.of(), request);
+    }
+
+    @ExceptionHandler(IncidentTicketTransitionException.class)
+    public ResponseEntity<ApiErrorResponse> handleTicketTransitionConflict(
+        IncidentTicketTransitionException ex,
+        HttpServletRequest request
+    ) {
+        return buildError(HttpStatus.CONFLICT, "TICKET_TRANSITION_CONFLICT", ex.getMessage(), Map.of(), request);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiErrorResponse> handleBadRequest(IllegalArgumentException ex, HttpServletRequest request) {
         return buildError(HttpStatus.BAD_REQUEST, "BAD_REQUEST", ex.getMessage(), Map.of(), request);
@@ -1,14 +1,28 @@
 package com.showoff.incidentops.springboot.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 @ConfigurationProperties(prefix = "incidentops")
 public record IncidentOpsProperties(
     Tickets tickets,
     Integrations integrations,
     Security security,
-    Messaging messaging
+    Messaging messaging,
+    @DefaultValue CacheLimits cacheLimits,
+    @DefaultValue Persistence persistence
 ) {
+    public IncidentOpsProperties {
+        if (persistence == null) {
+            persistence = Persistence.DEFAULTS;
+        }
+    }
+
     public record Tickets(String defaultStatus, int maxPageSize) {}
 
     public record Integrations(Redis redis, Rabbitmq rabbitmq) {
@@ -22,4 +36,92 @@ public record IncidentOpsProperties(
     public record Messaging(Kafka kafka) {
         public record Kafka(String topic, String groupId) {}
     }
+
+    public record CacheLimits(Limit defaults, Map<String, Limit> caches) {
+        public static final long DEFAULT_MAX_ENTRIES = 10_000;
+        public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+        // Per-cache entries only override the fields they set; cache names match case-insensitively.
+        public CacheLimits {
+            defaults = new Limit(DEFAULT_MAX_ENTRIES, DEFAULT_TTL, null).overriddenBy(defaults);
+            Map<String, Limit> resolved = new HashMap<>();
+            if (caches != null) {
+                caches.forEach((name, limit) -> resolved.put(name.toLowerCase(Locale.ROOT), defaults.overriddenBy(limit)));
+            }
+            caches = Map.copyOf(resolved);
+        }
+
+        public Limit limitFor(String cacheName) {
+            return caches.getOrDefault(cacheName.toLowerCase(Locale.ROOT), defaults);
+        }
+
+        public record Limit(Long maxEntries, Duration ttl, Duration refreshAfterWrite) {
+            public Limit {
+                if (maxEntries != null && maxEntries < 1) {
+                    throw new IllegalArgumentException("maxEntries must be at least 1");
+                }
+                if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+                    throw new IllegalArgumentException("ttl must be greater than zero");
+                }
+                if (refreshAfterWrite != null && (refreshAfterWrite.isNegative() || refreshAfterWrite.isZero())) {
+                    throw new IllegalArgumentException("refreshAfterWrite must be greater than zero");
+                }
+                if (ttl != null && refreshAfterWrite != null && refreshAfterWrite.compareTo(ttl) >= 0) {
+                    throw new IllegalArgumentException("refreshAfterWrite must be shorter than ttl");
+                }
+            }
+
+            Limit overriddenBy(Limit override) {
+                if (override == null) {
+                    return this;
+                }
+                return new Limit(
+                    override.maxEntries != null ? override.maxEntries : maxEntries,
+                    override.ttl != null ? override.ttl : ttl,
+                    override.refreshAfterWrite != null ? override.refreshAfterWrite : refreshAfterWrite
+                );
+            }
+        }
+    }
+
+    public record Persistence(
+        @DefaultValue("10") int maximumPoolSize,
+        Integer minimumIdle,
+        @DefaultValue("30s") Duration connectionTimeout,
+        @DefaultValue("true") boolean reWriteBatchedInserts,
+        @DefaultValue("5") int prepareThreshold,
+        @DefaultValue("256") int preparedStatementCacheQueries,
+        @DefaultValue("50") int jdbcBatchSize,
+        @DefaultValue("true") boolean orderInserts,
+        @DefaultValue("true") boolean orderUpdates
+    ) {
+        public static final Duration MIN_CONNECTION_TIMEOUT = Duration.ofMillis(250);
+        public static final Persistence DEFAULTS =
+            new Persistence(10, null, Duration.ofSeconds(30), true, 5, 256, 50, true, true);
+
+        // Like Hikari, an unset minimumIdle follows maximumPoolSize, so shrinking only the pool size stays valid.
+        public Persistence {
+            if (maximumPoolSize < 1) {
+                throw new IllegalArgumentException("maximumPoolSize must be at least 1");
+            }
+            if (minimumIdle == null) {
+                minimumIdle = maximumPoolSize;
+            }
+            if (minimumIdle < 0 || minimumIdle > maximumPoolSize) {
+                throw new IllegalArgumentException("minimumIdle must be between 0 and maximumPoolSize");
+            }
+            if (connectionTimeout == null || connectionTimeout.compareTo(MIN_CONNECTION_TIMEOUT) < 0) {
+                throw new IllegalArgumentException("connectionTimeout must be at least 250ms");
+            }
+            if (prepareThreshold < 0) {
+                throw new IllegalArgumentException("prepareThreshold must be zero or greater");
+            }
+            if (preparedStatementCacheQueries < 0) {
+                throw new IllegalArgumentException("preparedStatementCacheQueries must be zero or greater");
+            }
+            if (jdbcBatchSize < 1) {
+                throw new IllegalArgumentException("jdbcBatchSize must be at least 1");
+            }
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package com.showoff.incidentops.springboot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "incidentops.ticket-counts")
+public record TicketCountProperties(@DefaultValue("30s") Duration refreshInterval) {
+    public TicketCountProperties {
+        if (refreshInterval == null || refreshInterval.isNegative()) {
+            throw new IllegalArgumentException("refreshInterval must be zero or greater");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.showoff.incidentops.springboot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "incidentops.export")
+public record TicketExportProperties(@DefaultValue("30m") Duration timeout) {
+    public TicketExportProperties {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be greater than zero");
+        }
+    }
+}
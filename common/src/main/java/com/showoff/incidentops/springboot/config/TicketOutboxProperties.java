@@ -0,0 +1,26 @@
+package com.showoff.incidentops.springboot.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "incidentops.outbox")
+public record TicketOutboxProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1s") Duration pollInterval,
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("10s") Duration sendTimeout
+) {
+    public TicketOutboxProperties {
+        if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("pollInterval must be greater than zero");
+        }
+        if (batchSize < 1 || batchSize > 1000) {
+            throw new IllegalArgumentException("batchSize must be between 1 and 1000");
+        }
+        if (sendTimeout == null || sendTimeout.isNegative() || sendTimeout.isZero()) {
+            throw new IllegalArgumentException("sendTimeout must be greater than zero");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+public record BatchCreateIncidentTicketResult(
+    int index,
+    String ticketId,
+    String outcome,
+    String error
+) {
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    public static BatchCreateIncidentTicketResult created(int index, String ticketId) {
+        return new BatchCreateIncidentTicketResult(index, ticketId, CREATED, null);
+    }
+
+    public static BatchCreateIncidentTicketResult rejected(int index, String error) {
+        return new BatchCreateIncidentTicketResult(index, null, REJECTED, error);
+    }
+}
@@ -0,0 +1,12 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchCreateIncidentTicketsRequest(
+    @NotEmpty(message = "tickets must not be empty")
+    @Size(max = 1000, message = "tickets must contain <= 1000 items")
+    List<CreateIncidentTicketRequest> tickets
+) {}
@@ -0,0 +1,10 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+import java.util.List;
+
+public record BatchCreateIncidentTicketsResponse(
+    int requested,
+    int created,
+    int rejected,
+    List<BatchCreateIncidentTicketResult> results
+) {}
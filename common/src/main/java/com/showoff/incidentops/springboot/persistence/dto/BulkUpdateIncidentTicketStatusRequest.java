@@ -0,0 +1,19 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkUpdateIncidentTicketStatusRequest(
+    @Size(max = 1000, message = "ticketIds must contain <= 1000 items")
+    List<@Pattern(regexp = "(?i)\\s*TKT-\\d+\\s*", message = "ticketId must match TKT-<digits>") String> ticketIds,
+    @Size(max = 64, message = "serviceId must be <= 64 chars")
+    String serviceId,
+    @Size(max = 32, message = "currentStatus must be <= 32 chars")
+    String currentStatus,
+    @NotBlank(message = "status must not be blank")
+    @Size(max = 32, message = "status must be <= 32 chars")
+    String status
+) {}
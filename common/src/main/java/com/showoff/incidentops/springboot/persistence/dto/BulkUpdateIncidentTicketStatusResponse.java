@@ -0,0 +1,3 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+public record BulkUpdateIncidentTicketStatusResponse(int updated, String status) {}
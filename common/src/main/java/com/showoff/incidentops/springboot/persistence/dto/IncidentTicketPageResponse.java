@@ -0,0 +1,12 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+import java.util.List;
+
+public record IncidentTicketPageResponse(
+    List<IncidentTicketResponse> content,
+    int page,
+    int size,
+    boolean hasNext,
+    Long totalElements,
+    String countMode
+) {}
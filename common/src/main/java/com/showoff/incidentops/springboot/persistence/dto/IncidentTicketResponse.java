@@ -5,5 +5,6 @@ public record IncidentTicketResponse(
     String serviceId,
     int severity,
     String summary,
-    String status
+    String status,
+    long version
 ) {}
@@ -0,0 +1,10 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+import java.util.List;
+
+public record IncidentTicketSliceResponse(
+    List<IncidentTicketResponse> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {}
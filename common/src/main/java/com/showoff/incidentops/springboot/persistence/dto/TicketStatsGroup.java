@@ -0,0 +1,3 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+public record TicketStatsGroup(String serviceId, int severity, String status, long count) {}
@@ -0,0 +1,5 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+import java.util.List;
+
+public record TicketStatsResponse(String status, long total, List<TicketStatsGroup> groups) {}
@@ -0,0 +1,3 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+public record TicketStatusCount(String status, long count) {}
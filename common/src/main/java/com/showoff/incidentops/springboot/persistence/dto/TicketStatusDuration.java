@@ -0,0 +1,3 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+public record TicketStatusDuration(String ticketId, String status, long seconds) {}
@@ -0,0 +1,11 @@
+package com.showoff.incidentops.springboot.persistence.dto;
+
+import java.time.Instant;
+
+public record TicketTransitionResponse(
+    String ticketId,
+    String fromStatus,
+    String toStatus,
+    long version,
+    Instant changedAt
+) {}
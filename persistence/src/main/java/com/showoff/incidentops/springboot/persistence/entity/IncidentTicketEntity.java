@@ -1,11 +1,17 @@
 package com.showoff.incidentops.springboot.persistence.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import java.time.Instant;
 
 @Entity
 @Table(name = "incident_tickets")
@@ -17,7 +23,8 @@ public class IncidentTicketEntity {
     @Column(name = "ticket_id", nullable = false, unique = true, length = 32)
     private String ticketId;
 
-    @Column(name = "service_id", nullable = false, length = 64)
+    @Convert(converter = ServiceIdConverter.class)
+    @Column(name = "service_key", nullable = false)
     private String serviceId;
 
     @Column(name = "severity", nullable = false)
@@ -26,9 +33,20 @@ public class IncidentTicketEntity {
     @Column(name = "summary", nullable = false, length = 255)
     private String summary;
 
-    @Column(name = "status", nullable = false, length = 32)
+    @Convert(converter = TicketStatusConverter.class)
+    @Column(name = "status", nullable = false)
     private String status;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
     protected IncidentTicketEntity() {}
 
     public IncidentTicketEntity(String ticketId, String serviceId, int severity, String summary, String status) {
@@ -82,4 +100,28 @@ public class IncidentTicketEntity {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @PrePersist
+    void onCreate() {
+        Instant now = Instant.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = Instant.now();
+    }
 }
@@ -0,0 +1,25 @@
+package com.showoff.incidentops.springboot.persistence.entity;
+
+import com.showoff.incidentops.springboot.persistence.repository.ServiceDirectory;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class ServiceIdConverter implements AttributeConverter<String, Integer> {
+    private final ServiceDirectory directory;
+
+    public ServiceIdConverter(ServiceDirectory directory) {
+        this.directory = directory;
+    }
+
+    // Lookup only: services are registered by the write path, inside its own transaction.
+    @Override
+    public Integer convertToDatabaseColumn(String serviceId) {
+        return serviceId == null ? null : directory.requireId(serviceId);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer serviceKey) {
+        return serviceKey == null ? null : directory.nameOf(serviceKey);
+    }
+}
@@ -0,0 +1,64 @@
+package com.showoff.incidentops.springboot.persistence.entity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public enum TicketStatus {
+    OPEN((short) 1),
+    ACK((short) 2),
+    RESOLVED((short) 3),
+    CLOSED((short) 4);
+
+    private static final String ALLOWED = Arrays.stream(values()).map(Enum::name).collect(Collectors.joining(", "));
+
+    private final short code;
+
+    TicketStatus(short code) {
+        this.code = code;
+    }
+
+    public short code() {
+        return code;
+    }
+
+    public boolean canTransitionTo(TicketStatus target) {
+        return switch (this) {
+            case OPEN -> target == ACK;
+            case ACK -> target == RESOLVED;
+            case RESOLVED -> target == CLOSED;
+            case CLOSED -> false;
+        };
+    }
+
+    public List<TicketStatus> sources() {
+        return Arrays.stream(values()).filter(status -> status.canTransitionTo(this)).toList();
+    }
+
+    public static TicketStatus parse(String status) {
+        if (status == null || status.isBlank()) {
+            throw new IllegalArgumentException("status must not be blank");
+        }
+        String normalized = status.trim().toUpperCase(Locale.ROOT);
+        for (TicketStatus candidate : values()) {
+            if (candidate.name().equals(normalized)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("status must be one of " + ALLOWED);
+    }
+
+    public static boolean isKnown(String status) {
+        return status != null && Arrays.stream(values()).anyMatch(candidate -> candidate.name().equals(status));
+    }
+
+    public static TicketStatus fromCode(short code) {
+        for (TicketStatus candidate : values()) {
+            if (candidate.code == code) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("unknown status code " + code);
+    }
+}
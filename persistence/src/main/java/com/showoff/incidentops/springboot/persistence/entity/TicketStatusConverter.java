@@ -0,0 +1,17 @@
+package com.showoff.incidentops.springboot.persistence.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class TicketStatusConverter implements AttributeConverter<String, Short> {
+    @Override
+    public Short convertToDatabaseColumn(String status) {
+        return status == null ? null : TicketStatus.parse(status).code();
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short code) {
+        return code == null ? null : TicketStatus.fromCode(code).name();
+    }
+}
@@ -0,0 +1,172 @@
+package com.showoff.incidentops.springboot.persistence.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class IncidentTicketPartitionManager {
+    static final String PARENT_TABLE = "incident_tickets";
+    static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    static final String TICKET_ID_REGISTRY = "ticket_ids";
+    static final long MAINTENANCE_LOCK_KEY = 7_301_010L;
+
+    private static final Logger log = LoggerFactory.getLogger(IncidentTicketPartitionManager.class);
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile(PARTITION_PREFIX + "(\\d{6})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TicketPartitionProperties properties;
+
+    public IncidentTicketPartitionManager(JdbcTemplate jdbcTemplate, TicketPartitionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Scheduled(cron = "${incidentops.ticket-partitions.cron:0 15 3 * * *}", zone = "UTC")
+    public void maintainScheduled() {
+        maintain(LocalDate.now(ZoneOffset.UTC));
+    }
+
+    public TicketPartitionMaintenanceResult maintain(LocalDate today) {
+        if (!properties.enabled() || !isPartitioned()) {
+            return TicketPartitionMaintenanceResult.SKIPPED;
+        }
+        // The advisory lock is held by the session, so the whole pass runs on one connection.
+        return jdbcTemplate.execute((ConnectionCallback<TicketPartitionMaintenanceResult>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Boolean locked = session.queryForObject("select pg_try_advisory_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("ticket partition maintenance is already running on another node");
+                return TicketPartitionMaintenanceResult.SKIPPED;
+            }
+            try {
+                return maintain(session, YearMonth.from(today));
+            } finally {
+                session.queryForObject("select pg_advisory_unlock(?)", Boolean.class, MAINTENANCE_LOCK_KEY);
+            }
+        });
+    }
+
+    private TicketPartitionMaintenanceResult maintain(JdbcTemplate session, YearMonth current) {
+        List<String> attached = partitionNames(session);
+
+        List<String> created = new ArrayList<>();
+        for (int offset = 0; offset <= properties.premakeMonths(); offset++) {
+            YearMonth month = current.plusMonths(offset);
+            String name = partitionName(month);
+            if (attached.contains(name)) {
+                continue;
+            }
+            try {
+                session.execute(
+                    "create table " + name + " partition of " + PARENT_TABLE
+                        + " for values from ('" + month.atDay(1) + "') to ('" + month.plusMonths(1).atDay(1) + "')"
+                );
+                created.add(name);
+            } catch (DataAccessException ex) {
+                log.warn("could not create ticket partition {}: {}", name, ex.getMessage());
+            }
+        }
+
+        YearMonth oldestRetained = current.minusMonths(properties.retentionMonths());
+        List<String> dropped = new ArrayList<>();
+        for (String name : monthlyTables(session)) {
+            Matcher matcher = MONTHLY_PARTITION.matcher(name);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(matcher.group(1), SUFFIX);
+            if (month.isBefore(oldestRetained) && drop(session, name, month, attached.contains(name))) {
+                dropped.add(name);
+            }
+        }
+
+        if (!created.isEmpty() || !dropped.isEmpty()) {
+            log.info("ticket partitions maintained created={} dropped={}", created, dropped);
+        }
+        return new TicketPartitionMaintenanceResult(List.copyOf(created), List.copyOf(dropped));
+    }
+
+    // A table left detached by a failed drop is no longer attached, so the next pass picks it up here.
+    private boolean drop(JdbcTemplate session, String name, YearMonth month, boolean attached) {
+        try {
+            if (attached) {
+                session.execute("alter table " + PARENT_TABLE + " detach partition " + name);
+            }
+            session.execute("drop table if exists " + name);
+            session.update(
+                "delete from " + TICKET_ID_REGISTRY + " where created_at >= '" + month.atDay(1)
+                    + "' and created_at < '" + month.plusMonths(1).atDay(1) + "'"
+            );
+            return true;
+        } catch (DataAccessException ex) {
+            log.warn("could not drop expired ticket partition {}: {}", name, ex.getMessage());
+            return false;
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+
+    private boolean isPartitioned() {
+        String product = jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        if (!"PostgreSQL".equals(product)) {
+            return false;
+        }
+        Integer count = jdbcTemplate.queryForObject(
+            "select count(*) from pg_partitioned_table p join pg_class c on c.oid = p.partrelid where c.relname = ?",
+            Integer.class,
+            PARENT_TABLE
+        );
+        return count != null && count > 0;
+    }
+
+    private static List<String> partitionNames(JdbcTemplate session) {
+        return session.queryForList(
+            """
+                select child.relname
+                from pg_inherits i
+                join pg_class parent on parent.oid = i.inhparent
+                join pg_class child on child.oid = i.inhrelid
+                where parent.relname = ?
+                order by child.relname
+                """,
+            String.class,
+            PARENT_TABLE
+        );
+    }
+
+    private static List<String> monthlyTables(JdbcTemplate session) {
+        return session.queryForList(
+            """
+                select c.relname
+                from pg_class c
+                join pg_namespace n on n.oid = c.relnamespace
+                where n.nspname = current_schema()
+                  and c.relkind = 'r'
+                  and c.relname like ?
+                order by c.relname
+                """,
+            String.class,
+            PARTITION_PREFIX.replace("_", "\\_") + "%"
+        );
+    }
+}
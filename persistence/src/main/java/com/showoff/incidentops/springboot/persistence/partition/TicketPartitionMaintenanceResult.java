@@ -0,0 +1,7 @@
+package com.showoff.incidentops.springboot.persistence.partition;
+
+import java.util.List;
+
+public record TicketPartitionMaintenanceResult(List<String> created, List<String> dropped) {
+    static final TicketPartitionMaintenanceResult SKIPPED = new TicketPartitionMaintenanceResult(List.of(), List.of());
+}
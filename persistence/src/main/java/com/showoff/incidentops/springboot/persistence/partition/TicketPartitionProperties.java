@@ -0,0 +1,20 @@
+package com.showoff.incidentops.springboot.persistence.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "incidentops.ticket-partitions")
+public record TicketPartitionProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("3") int premakeMonths,
+    @DefaultValue("12") int retentionMonths
+) {
+    public TicketPartitionProperties {
+        if (premakeMonths < 1) {
+            throw new IllegalArgumentException("premakeMonths must be at least 1");
+        }
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("retentionMonths must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+
+import java.util.List;
+
+public interface IncidentTicketBatchRepository {
+    void insertAll(List<IncidentTicketEntity> tickets);
+}
@@ -0,0 +1,48 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import com.showoff.incidentops.springboot.persistence.entity.TicketStatus;
+import com.showoff.incidentops.springboot.persistence.tuning.PersistenceTuningPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+public class IncidentTicketBatchRepositoryImpl implements IncidentTicketBatchRepository {
+    private static final String INSERT_TICKET_SQL = """
+        insert into incident_tickets (ticket_id, service_key, severity, summary, status)
+        values (?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ServiceDirectory serviceDirectory;
+    private final int jdbcBatchSize;
+
+    public IncidentTicketBatchRepositoryImpl(
+        JdbcTemplate jdbcTemplate,
+        ServiceDirectory serviceDirectory,
+        ObjectProvider<IncidentOpsProperties> incidentOpsProperties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.serviceDirectory = serviceDirectory;
+        this.jdbcBatchSize = PersistenceTuningPostProcessor.persistence(incidentOpsProperties).jdbcBatchSize();
+    }
+
+    @Override
+    public void insertAll(List<IncidentTicketEntity> tickets) {
+        if (tickets == null) {
+            throw new IllegalArgumentException("tickets must not be null");
+        }
+        if (tickets.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_TICKET_SQL, tickets, jdbcBatchSize, (statement, ticket) -> {
+            statement.setString(1, ticket.getTicketId());
+            statement.setInt(2, serviceDirectory.requireId(ticket.getServiceId()));
+            statement.setInt(3, ticket.getSeverity());
+            statement.setString(4, ticket.getSummary());
+            statement.setShort(5, TicketStatus.parse(ticket.getStatus()).code());
+        });
+    }
+}
@@ -1,29 +1,206 @@
 package com.showoff.incidentops.springboot.persistence.repository;
 
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsGroup;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusCount;
 import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface IncidentTicketRepository extends JpaRepository<IncidentTicketEntity, Long> {
+public interface IncidentTicketRepository
+    extends JpaRepository<IncidentTicketEntity, Long>, IncidentTicketBatchRepository, IncidentTicketTextSearchRepository {
     Optional<IncidentTicketEntity> findByTicketId(String ticketId);
 
-    Page<IncidentTicketEntity> findByStatusOrderBySeverityDescTicketIdAsc(String status, Pageable pageable);
+    @Query(value = "select nextval('incident_ticket_number_seq')", nativeQuery = true)
+    long nextTicketNumberBlock();
 
     @Query("""
-        select t
+        select new com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse(
+            t.ticketId, t.serviceId, t.severity, t.summary, t.status, t.version
+        )
         from IncidentTicketEntity t
-        where lower(t.serviceId) = lower(:serviceId)
+        where t.ticketId = :ticketId
+        """)
+    Optional<IncidentTicketResponse> findResponseByTicketId(@Param("ticketId") String ticketId);
+
+    @Query(
+        value = """
+            select new com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse(
+                t.ticketId, t.serviceId, t.severity, t.summary, t.status, t.version
+            )
+            from IncidentTicketEntity t
+            where t.status = :status
+            order by t.severity desc, t.ticketId asc
+            """,
+        countQuery = "select count(t) from IncidentTicketEntity t where t.status = :status"
+    )
+    Page<IncidentTicketResponse> findResponsesByStatus(@Param("status") String status, Pageable pageable);
+
+    @Query(
+        value = """
+            select new com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse(
+                t.ticketId, t.serviceId, t.severity, t.summary, t.status, t.version
+            )
+            from IncidentTicketEntity t
+            where t.serviceId = :serviceId
+              and t.severity >= :minSeverity
+            order by t.severity desc, t.ticketId asc
+            """,
+        countQuery = """
+            select count(t)
+            from IncidentTicketEntity t
+            where t.serviceId = :serviceId
+              and t.severity >= :minSeverity
+            """
+    )
+    Page<IncidentTicketResponse> findResponsesByServiceAndMinSeverity(
+        @Param("serviceId") String serviceId,
+        @Param("minSeverity") int minSeverity,
+        Pageable pageable
+    );
+
+    @Query("""
+        select new com.showoff.incidentops.springboot.persistence.dto.TicketStatusCount(t.status, count(t))
+        from IncidentTicketEntity t
+        group by t.status
+        """)
+    List<TicketStatusCount> countByStatus();
+
+    @Query("""
+        select new com.showoff.incidentops.springboot.persistence.dto.TicketStatsGroup(
+            t.serviceId, t.severity, t.status, count(t)
+        )
+        from IncidentTicketEntity t
+        group by t.serviceId, t.severity, t.status
+        order by t.serviceId asc, t.severity desc, t.status asc
+        """)
+    List<TicketStatsGroup> countGroupedByServiceSeverityStatus();
+
+    @Query("""
+        select new com.showoff.incidentops.springboot.persistence.dto.TicketStatsGroup(
+            t.serviceId, t.severity, t.status, count(t)
+        )
+        from IncidentTicketEntity t
+        where t.status = :status
+        group by t.serviceId, t.severity, t.status
+        order by t.serviceId asc, t.severity desc
+        """)
+    List<TicketStatsGroup> countGroupedByServiceSeverityForStatus(@Param("status") String status);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select new com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse(
+            t.ticketId, t.serviceId, t.severity, t.summary, t.status, t.version
+        )
+        from IncidentTicketEntity t
+        where t.status = :status
+        order by t.severity desc, t.ticketId asc
+        """)
+    Stream<IncidentTicketResponse> streamResponsesByStatus(@Param("status") String status);
+
+    @Query("""
+        select new com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse(
+            t.ticketId, t.serviceId, t.severity, t.summary, t.status, t.version
+        )
+        from IncidentTicketEntity t
+        where t.status = :status
+        order by t.severity desc, t.ticketId asc
+        """)
+    Slice<IncidentTicketResponse> findKeysetByStatus(@Param("status") String status, Pageable pageable);
+
+    @Query("""
+        select new com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse(
+            t.ticketId, t.serviceId, t.severity, t.summary, t.status, t.version
+        )
+        from IncidentTicketEntity t
+        where t.status = :status
+          and (t.severity < :severity or (t.severity = :severity and t.ticketId > :ticketId))
+        order by t.severity desc, t.ticketId asc
+        """)
+    Slice<IncidentTicketResponse> findKeysetByStatusAfter(
+        @Param("status") String status,
+        @Param("severity") int severity,
+        @Param("ticketId") String ticketId,
+        Pageable pageable
+    );
+
+    @Query("""
+        select new com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse(
+            t.ticketId, t.serviceId, t.severity, t.summary, t.status, t.version
+        )
+        from IncidentTicketEntity t
+        where t.serviceId = :serviceId
           and t.severity >= :minSeverity
         order by t.severity desc, t.ticketId asc
         """)
-    Page<IncidentTicketEntity> findByServiceAndMinSeverity(
+    Slice<IncidentTicketResponse> findKeysetByServiceAndMinSeverity(
         @Param("serviceId") String serviceId,
         @Param("minSeverity") int minSeverity,
         Pageable pageable
     );
+
+    @Query("""
+        select new com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse(
+            t.ticketId, t.serviceId, t.severity, t.summary, t.status, t.version
+        )
+        from IncidentTicketEntity t
+        where t.serviceId = :serviceId
+          and t.severity >= :minSeverity
+          and (t.severity < :severity or (t.severity = :severity and t.ticketId > :ticketId))
+        order by t.severity desc, t.ticketId asc
+        """)
+    Slice<IncidentTicketResponse> findKeysetByServiceAndMinSeverityAfter(
+        @Param("serviceId") String serviceId,
+        @Param("minSeverity") int minSeverity,
+        @Param("severity") int severity,
+        @Param("ticketId") String ticketId,
+        Pageable pageable
+    );
+
+    @Query("""
+        select new com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse(
+            t.ticketId, t.serviceId, t.severity, t.summary, t.status, t.version
+        )
+        from IncidentTicketEntity t
+        where t.status = :status
+          and t.createdAt >= :since
+        order by t.createdAt desc, t.ticketId asc
+        """)
+    Slice<IncidentTicketResponse> findRecentByStatus(
+        @Param("status") String status,
+        @Param("since") Instant since,
+        Pageable pageable
+    );
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update IncidentTicketEntity t
+        set t.status = :status, t.version = t.version + 1, t.updatedAt = instant
+        where t.ticketId in :ticketIds
+          and t.status in :currentStatuses
+        """)
+    int updateStatusByTicketIds(
+        @Param("ticketIds") Collection<String> ticketIds,
+        @Param("currentStatuses") Collection<String> currentStatuses,
+        @Param("status") String status
+    );
 }
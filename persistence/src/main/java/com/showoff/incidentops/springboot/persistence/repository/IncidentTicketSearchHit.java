@@ -0,0 +1,5 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+
+public record IncidentTicketSearchHit(IncidentTicketResponse ticket, float rank) {}
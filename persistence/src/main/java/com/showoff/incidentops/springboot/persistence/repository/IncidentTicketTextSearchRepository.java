@@ -0,0 +1,7 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import java.util.List;
+
+public interface IncidentTicketTextSearchRepository {
+    List<IncidentTicketSearchHit> searchBySummary(String query, Float afterRank, String afterTicketId, int limit);
+}
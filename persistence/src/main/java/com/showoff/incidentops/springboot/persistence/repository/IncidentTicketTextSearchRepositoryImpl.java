@@ -0,0 +1,113 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.entity.TicketStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+public class IncidentTicketTextSearchRepositoryImpl implements IncidentTicketTextSearchRepository {
+    static final int MAX_FALLBACK_TERMS = 8;
+    private static final String POSTGRES_RANKED_SQL = """
+        select t.ticket_id, s.name as service_id, t.severity, t.summary, t.status, t.version,
+               ts_rank(t.summary_tsv, q.query) as rank
+        from incident_tickets t
+        join services s on s.id = t.service_key
+        cross join websearch_to_tsquery('english', ?) q(query)
+        where t.summary_tsv @@ q.query
+        """;
+    private static final String KEYSET_FILTER = """
+        where ranked.rank < cast(? as real)
+           or (ranked.rank = cast(? as real) and ranked.ticket_id > ?)
+        """;
+    private static final RowMapper<IncidentTicketSearchHit> HIT_MAPPER = (resultSet, rowNum) -> new IncidentTicketSearchHit(
+        new IncidentTicketResponse(
+            resultSet.getString("ticket_id"),
+            resultSet.getString("service_id"),
+            resultSet.getInt("severity"),
+            resultSet.getString("summary"),
+            TicketStatus.fromCode(resultSet.getShort("status")).name(),
+            resultSet.getLong("version")
+        ),
+        resultSet.getFloat("rank")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public IncidentTicketTextSearchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<IncidentTicketSearchHit> searchBySummary(
+        String query,
+        Float afterRank,
+        String afterTicketId,
+        int limit
+    ) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("query must not be blank");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be >= 1");
+        }
+        if ((afterRank == null) != (afterTicketId == null)) {
+            throw new IllegalArgumentException("afterRank and afterTicketId must be provided together");
+        }
+
+        List<Object> args = new ArrayList<>();
+        String ranked = isPostgres() ? postgresRanked(query, args) : likeRanked(query, args);
+        StringBuilder sql = new StringBuilder("select * from (").append(ranked).append(") ranked\n");
+        if (afterRank != null) {
+            sql.append(KEYSET_FILTER);
+            args.add(afterRank);
+            args.add(afterRank);
+            args.add(afterTicketId);
+        }
+        sql.append("order by ranked.rank desc, ranked.ticket_id asc\nlimit ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), HIT_MAPPER, args.toArray());
+    }
+
+    private static String postgresRanked(String query, List<Object> args) {
+        args.add(query.trim());
+        return POSTGRES_RANKED_SQL;
+    }
+
+    private static String likeRanked(String query, List<Object> args) {
+        List<String> terms = Arrays.stream(query.trim().toLowerCase(Locale.ROOT).split("\\s+"))
+            .distinct()
+            .limit(MAX_FALLBACK_TERMS)
+            .toList();
+        StringBuilder sql = new StringBuilder("""
+            select t.ticket_id, s.name as service_id, t.severity, t.summary, t.status, t.version,
+                   cast(1 as real) as rank
+            from incident_tickets t
+            join services s on s.id = t.service_key
+            where 1 = 1
+            """);
+        for (String term : terms) {
+            sql.append("  and lower(t.summary) like ? escape '\\'\n");
+            args.add("%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+        return sql.toString();
+    }
+
+    private boolean isPostgres() {
+        Boolean detected = postgres;
+        if (detected == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+            );
+            detected = "PostgreSQL".equals(product);
+            postgres = detected;
+        }
+        return detected;
+    }
+}
@@ -0,0 +1,157 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Repository
+public class ServiceDirectory {
+    static final int MAX_NAME_LENGTH = 64;
+    private static final String INSERT_SERVICE_SQL = "insert into services (name) values (?) on conflict do nothing";
+    private static final String FIND_ID_SQL = "select id from services where name = ?";
+    private static final String FIND_NAME_SQL = "select name from services where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    public ServiceDirectory(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Inserts in the caller's transaction; the new key is only cached once that transaction commits.
+    public int register(String serviceId) {
+        String name = normalize(serviceId);
+        Optional<Integer> known = findId(name);
+        if (known.isPresent()) {
+            return known.get();
+        }
+        boolean inserted = jdbcTemplate.update(INSERT_SERVICE_SQL, name) > 0;
+        List<Integer> ids = jdbcTemplate.queryForList(FIND_ID_SQL, Integer.class, name);
+        if (ids.isEmpty()) {
+            throw new DataRetrievalFailureException("service " + name + " was not registered");
+        }
+        int id = ids.getFirst();
+        if (inserted) {
+            rememberAfterCommit(id, name);
+        } else {
+            remember(id, name);
+        }
+        return id;
+    }
+
+    public Optional<Integer> findId(String serviceId) {
+        String name = normalize(serviceId);
+        Integer cached = idsByName.get(name);
+        if (cached == null) {
+            cached = pendingRegistrations().get(name);
+        }
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        List<Integer> ids = jdbcTemplate.queryForList(FIND_ID_SQL, Integer.class, name);
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+        remember(ids.getFirst(), name);
+        return Optional.of(ids.getFirst());
+    }
+
+    public int requireId(String serviceId) {
+        return findId(serviceId).orElseThrow(() -> new IllegalArgumentException(
+            "serviceId " + normalize(serviceId) + " is not registered"
+        ));
+    }
+
+    public String nameOf(int id) {
+        String cached = namesById.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        for (Map.Entry<String, Integer> pending : pendingRegistrations().entrySet()) {
+            if (pending.getValue() == id) {
+                return pending.getKey();
+            }
+        }
+        List<String> names = jdbcTemplate.queryForList(FIND_NAME_SQL, String.class, id);
+        if (names.isEmpty()) {
+            throw new DataRetrievalFailureException("unknown service key " + id);
+        }
+        remember(id, names.getFirst());
+        return names.getFirst();
+    }
+
+    static String normalize(String serviceId) {
+        if (serviceId == null || serviceId.isBlank()) {
+            throw new IllegalArgumentException("serviceId must not be blank");
+        }
+        String name = serviceId.trim().toLowerCase(Locale.ROOT);
+        if (name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("serviceId must be <= " + MAX_NAME_LENGTH + " chars");
+        }
+        return name;
+    }
+
+    private void remember(int id, String name) {
+        idsByName.put(name, id);
+        namesById.put(id, name);
+    }
+
+    private void rememberAfterCommit(int id, String name) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(id, name);
+            return;
+        }
+        Map<String, Integer> pending = pendingRegistrations();
+        if (pending.isEmpty()) {
+            Map<String, Integer> registrations = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, registrations);
+            TransactionSynchronizationManager.registerSynchronization(new PendingRegistrations(registrations));
+            pending = registrations;
+        }
+        pending.put(name, id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Integer> pendingRegistrations() {
+        Object pending = TransactionSynchronizationManager.getResource(this);
+        return pending == null ? Map.of() : (Map<String, Integer>) pending;
+    }
+
+    private final class PendingRegistrations implements TransactionSynchronization {
+        private final Map<String, Integer> registrations;
+
+        private PendingRegistrations(Map<String, Integer> registrations) {
+            this.registrations = registrations;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ServiceDirectory.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ServiceDirectory.this, registrations);
+        }
+
+        @Override
+        public void afterCommit() {
+            registrations.forEach((name, id) -> remember(id, name));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ServiceDirectory.this);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import java.time.Instant;
+
+public record TicketOutboxEvent(
+    long id,
+    String eventType,
+    String ticketId,
+    String serviceId,
+    int severity,
+    Instant createdAt
+) {}
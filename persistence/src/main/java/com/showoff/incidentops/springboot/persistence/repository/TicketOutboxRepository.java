@@ -0,0 +1,79 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import com.showoff.incidentops.springboot.persistence.tuning.PersistenceTuningPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+public class TicketOutboxRepository {
+    public static final String TICKET_CREATED = "TICKET_CREATED";
+    private static final String INSERT_EVENT_SQL = """
+        insert into incident_ticket_outbox (event_type, ticket_id, service_id, severity)
+        values (?, ?, ?, ?)
+        """;
+    private static final String LOCK_NEXT_BATCH_SQL = """
+        select id, event_type, ticket_id, service_id, severity, created_at
+        from incident_ticket_outbox
+        order by id
+        limit ?
+        for update skip locked
+        """;
+    private static final RowMapper<TicketOutboxEvent> EVENT_MAPPER = (resultSet, rowNum) -> new TicketOutboxEvent(
+        resultSet.getLong("id"),
+        resultSet.getString("event_type"),
+        resultSet.getString("ticket_id"),
+        resultSet.getString("service_id"),
+        resultSet.getInt("severity"),
+        resultSet.getObject("created_at", OffsetDateTime.class).toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int jdbcBatchSize;
+
+    public TicketOutboxRepository(
+        JdbcTemplate jdbcTemplate,
+        ObjectProvider<IncidentOpsProperties> incidentOpsProperties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcBatchSize = PersistenceTuningPostProcessor.persistence(incidentOpsProperties).jdbcBatchSize();
+    }
+
+    public void appendTicketCreated(Collection<IncidentTicketEntity> tickets) {
+        if (tickets == null) {
+            throw new IllegalArgumentException("tickets must not be null");
+        }
+        if (tickets.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, tickets, jdbcBatchSize, (statement, ticket) -> {
+            statement.setString(1, TICKET_CREATED);
+            statement.setString(2, ticket.getTicketId());
+            statement.setString(3, ticket.getServiceId());
+            statement.setInt(4, ticket.getSeverity());
+        });
+    }
+
+    public List<TicketOutboxEvent> lockNextBatch(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be >= 1");
+        }
+        return jdbcTemplate.query(LOCK_NEXT_BATCH_SQL, EVENT_MAPPER, limit);
+    }
+
+    public int deleteByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("delete from incident_ticket_outbox where id in (" + placeholders + ")", ids.toArray());
+    }
+}
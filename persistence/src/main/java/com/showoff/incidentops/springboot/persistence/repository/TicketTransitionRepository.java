@@ -0,0 +1,244 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusDuration;
+import com.showoff.incidentops.springboot.persistence.dto.TicketTransitionResponse;
+import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import com.showoff.incidentops.springboot.persistence.entity.TicketStatus;
+import com.showoff.incidentops.springboot.persistence.tuning.PersistenceTuningPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class TicketTransitionRepository {
+    private static final String INSERT_TRANSITION_SQL = """
+        insert into incident_ticket_transitions (ticket_id, from_status, to_status, ticket_version)
+        values (?, ?, ?, ?)
+        """;
+    // Bulk status changes lock their rows first, so the update and its history rows see the same set.
+    private static final String LOCK_BY_TICKET_IDS_SQL = """
+        select t.ticket_id, (select s.name from services s where s.id = t.service_key) as service_id,
+               t.status, t.version
+        from incident_tickets t
+        where t.status in (%s)
+          and t.ticket_id in (%s)
+        order by t.ticket_id
+        for update
+        """;
+    private static final String LOCK_BY_SERVICE_AND_STATUS_SQL = """
+        select t.ticket_id, (select s.name from services s where s.id = t.service_key) as service_id,
+               t.status, t.version
+        from incident_tickets t
+        where t.service_key = (select s.id from services s where s.name = lower(?))
+          and t.status = ?
+        order by t.ticket_id
+        for update
+        """;
+    // PostgreSQL moves a whole service/status set and records its history in one statement.
+    private static final String MOVE_BY_SERVICE_AND_STATUS_SQL = """
+        with moved as (
+            update incident_tickets t
+            set status = cast(? as smallint), version = t.version + 1, updated_at = current_timestamp
+            where t.service_key = (select s.id from services s where s.name = lower(?))
+              and t.status = cast(? as smallint)
+            returning t.ticket_id, t.service_key, t.version
+        ), recorded as (
+            insert into incident_ticket_transitions (ticket_id, from_status, to_status, ticket_version)
+            select ticket_id, cast(? as smallint), cast(? as smallint), version
+            from moved
+        )
+        select m.ticket_id, s.name as service_id, m.version
+        from moved m
+        join services s on s.id = m.service_key
+        order by m.ticket_id
+        """;
+    private static final String FIND_BY_TICKET_ID_SQL = """
+        select ticket_id, from_status, to_status, ticket_version, changed_at
+        from incident_ticket_transitions
+        where ticket_id = ?
+        order by changed_at, id
+        """;
+    private static final String STATUS_INTERVALS_SQL = """
+        select ticket_id, to_status, changed_at,
+               lead(changed_at) over (partition by ticket_id order by changed_at, id) as left_at
+        from incident_ticket_transitions
+        where ticket_id in (%s)
+        order by ticket_id, changed_at, id
+        """;
+    private static final RowMapper<LockedTicket> LOCKED_TICKET_MAPPER = (resultSet, rowNum) ->
+        new LockedTicket(
+            resultSet.getString("ticket_id"),
+            resultSet.getString("service_id"),
+            statusName(resultSet.getShort("status")),
+            resultSet.getLong("version")
+        );
+    private static final RowMapper<TicketTransitionResponse> TRANSITION_MAPPER = (resultSet, rowNum) ->
+        new TicketTransitionResponse(
+            resultSet.getString("ticket_id"),
+            statusName(resultSet.getObject("from_status", Short.class)),
+            statusName(resultSet.getObject("to_status", Short.class)),
+            resultSet.getLong("ticket_version"),
+            resultSet.getObject("changed_at", OffsetDateTime.class).toInstant()
+        );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int jdbcBatchSize;
+    private volatile Boolean postgres;
+
+    public TicketTransitionRepository(
+        JdbcTemplate jdbcTemplate,
+        ObjectProvider<IncidentOpsProperties> incidentOpsProperties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcBatchSize = PersistenceTuningPostProcessor.persistence(incidentOpsProperties).jdbcBatchSize();
+    }
+
+    public void appendCreated(Collection<IncidentTicketEntity> tickets) {
+        if (tickets == null) {
+            throw new IllegalArgumentException("tickets must not be null");
+        }
+        if (tickets.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_TRANSITION_SQL, tickets, jdbcBatchSize, (statement, ticket) -> {
+            statement.setString(1, ticket.getTicketId());
+            statement.setNull(2, Types.SMALLINT);
+            statement.setShort(3, TicketStatus.parse(ticket.getStatus()).code());
+            statement.setLong(4, ticket.getVersion());
+        });
+    }
+
+    public void append(String ticketId, String fromStatus, String toStatus, long version) {
+        jdbcTemplate.update(
+            INSERT_TRANSITION_SQL,
+            ticketId,
+            fromStatus == null ? null : TicketStatus.parse(fromStatus).code(),
+            TicketStatus.parse(toStatus).code(),
+            version
+        );
+    }
+
+    public List<LockedTicket> lockByTicketIds(Collection<String> ticketIds, Collection<String> statuses) {
+        if (ticketIds == null || ticketIds.isEmpty() || statuses == null || statuses.isEmpty()) {
+            return List.of();
+        }
+        List<Object> args = new ArrayList<>(ticketIds.size() + statuses.size());
+        for (String status : statuses) {
+            args.add(TicketStatus.parse(status).code());
+        }
+        args.addAll(ticketIds);
+        String sql = LOCK_BY_TICKET_IDS_SQL.formatted(placeholders(statuses.size()), placeholders(ticketIds.size()));
+        return jdbcTemplate.query(sql, LOCKED_TICKET_MAPPER, args.toArray());
+    }
+
+    public List<LockedTicket> lockByServiceAndStatus(String serviceId, String status) {
+        return jdbcTemplate.query(
+            LOCK_BY_SERVICE_AND_STATUS_SQL,
+            LOCKED_TICKET_MAPPER,
+            serviceId,
+            TicketStatus.parse(status).code()
+        );
+    }
+
+    public boolean supportsSetBasedMoves() {
+        Boolean detected = postgres;
+        if (detected == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+            );
+            detected = "PostgreSQL".equals(product);
+            postgres = detected;
+        }
+        return detected;
+    }
+
+    public List<LockedTicket> moveByServiceAndStatus(String serviceId, String fromStatus, String toStatus) {
+        if (!supportsSetBasedMoves()) {
+            throw new IllegalStateException("set-based moves require PostgreSQL");
+        }
+        TicketStatus from = TicketStatus.parse(fromStatus);
+        short toCode = TicketStatus.parse(toStatus).code();
+        return jdbcTemplate.query(
+            MOVE_BY_SERVICE_AND_STATUS_SQL,
+            (resultSet, rowNum) -> new LockedTicket(
+                resultSet.getString("ticket_id"),
+                resultSet.getString("service_id"),
+                from.name(),
+                resultSet.getLong("version") - 1
+            ),
+            toCode,
+            serviceId,
+            from.code(),
+            from.code(),
+            toCode
+        );
+    }
+
+    public void appendBulk(Collection<LockedTicket> tickets, String toStatus) {
+        if (tickets == null) {
+            throw new IllegalArgumentException("tickets must not be null");
+        }
+        if (tickets.isEmpty()) {
+            return;
+        }
+        short toCode = TicketStatus.parse(toStatus).code();
+        jdbcTemplate.batchUpdate(INSERT_TRANSITION_SQL, tickets, jdbcBatchSize, (statement, ticket) -> {
+            statement.setString(1, ticket.ticketId());
+            statement.setShort(2, TicketStatus.parse(ticket.status()).code());
+            statement.setShort(3, toCode);
+            statement.setLong(4, ticket.version() + 1);
+        });
+    }
+
+    public List<TicketTransitionResponse> findByTicketId(String ticketId) {
+        return jdbcTemplate.query(FIND_BY_TICKET_ID_SQL, TRANSITION_MAPPER, ticketId);
+    }
+
+    public List<TicketStatusDuration> timeInStatus(Collection<String> ticketIds, Instant asOf) {
+        if (ticketIds == null || ticketIds.isEmpty()) {
+            return List.of();
+        }
+        if (asOf == null) {
+            throw new IllegalArgumentException("asOf must not be null");
+        }
+        Map<String, Map<String, Duration>> totals = new LinkedHashMap<>();
+        jdbcTemplate.query(STATUS_INTERVALS_SQL.formatted(placeholders(ticketIds.size())), resultSet -> {
+            Instant enteredAt = resultSet.getObject("changed_at", OffsetDateTime.class).toInstant();
+            OffsetDateTime leftAt = resultSet.getObject("left_at", OffsetDateTime.class);
+            Instant end = leftAt == null ? asOf : leftAt.toInstant();
+            Duration spent = end.isAfter(enteredAt) ? Duration.between(enteredAt, end) : Duration.ZERO;
+            totals.computeIfAbsent(resultSet.getString("ticket_id"), ignored -> new LinkedHashMap<>())
+                .merge(statusName(resultSet.getShort("to_status")), spent, Duration::plus);
+        }, ticketIds.toArray());
+
+        List<TicketStatusDuration> durations = new ArrayList<>();
+        totals.forEach((ticketId, byStatus) -> byStatus.forEach(
+            (status, spent) -> durations.add(new TicketStatusDuration(ticketId, status, spent.toSeconds()))
+        ));
+        return durations;
+    }
+
+    private static String statusName(Short code) {
+        return code == null ? null : TicketStatus.fromCode(code).name();
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    public record LockedTicket(String ticketId, String serviceId, String status, long version) {}
+}
@@ -0,0 +1,40 @@
+package com.showoff.incidentops.springboot.persistence.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "incidentops.read-replicas")
+public record ReadReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<Replica> replicas,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("5s") Duration lagCheckInterval,
+    @DefaultValue("10") int maximumPoolSize
+) {
+    public ReadReplicaProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+        if (enabled && replicas.isEmpty()) {
+            throw new IllegalArgumentException("replicas must not be empty when read replicas are enabled");
+        }
+        if (maxLag == null || maxLag.isNegative()) {
+            throw new IllegalArgumentException("maxLag must be zero or greater");
+        }
+        if (lagCheckInterval == null || lagCheckInterval.isNegative()) {
+            throw new IllegalArgumentException("lagCheckInterval must be zero or greater");
+        }
+        if (maximumPoolSize < 1) {
+            throw new IllegalArgumentException("maximumPoolSize must be at least 1");
+        }
+    }
+
+    public record Replica(String url, String username, String password) {
+        public Replica {
+            if (url == null || url.isBlank()) {
+                throw new IllegalArgumentException("replica url must not be blank");
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.showoff.incidentops.springboot.persistence.routing;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration(proxyBeanMethods = false)
+public class ReadReplicaRoutingConfig {
+    @Bean
+    public static ReadReplicaRoutingPostProcessor readReplicaRoutingPostProcessor(
+        Environment environment,
+        ObjectProvider<IncidentOpsProperties> incidentOpsProperties,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new ReadReplicaRoutingPostProcessor(environment, incidentOpsProperties, meterRegistry);
+    }
+}
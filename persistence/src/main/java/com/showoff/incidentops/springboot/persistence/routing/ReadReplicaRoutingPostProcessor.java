@@ -0,0 +1,107 @@
+package com.showoff.incidentops.springboot.persistence.routing;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import com.showoff.incidentops.springboot.persistence.tuning.PersistenceTuningPostProcessor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReadReplicaRoutingPostProcessor implements BeanPostProcessor, DisposableBean {
+    static final String PRIMARY_DATA_SOURCE_BEAN = "dataSource";
+
+    private final Environment environment;
+    private final ObjectProvider<IncidentOpsProperties> incidentOpsProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final List<AutoCloseable> managedDataSources = new ArrayList<>();
+
+    public ReadReplicaRoutingPostProcessor(
+        Environment environment,
+        ObjectProvider<IncidentOpsProperties> incidentOpsProperties,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.environment = environment;
+        this.incidentOpsProperties = incidentOpsProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource primary) || !PRIMARY_DATA_SOURCE_BEAN.equals(beanName)) {
+            return bean;
+        }
+        ReadReplicaProperties properties = Binder.get(environment)
+            .bindOrCreate("incidentops.read-replicas", ReadReplicaProperties.class);
+        if (!properties.enabled()) {
+            return bean;
+        }
+
+        IncidentOpsProperties.Persistence tuning = PersistenceTuningPostProcessor.persistence(incidentOpsProperties);
+        List<DataSource> replicas = new ArrayList<>(properties.replicas().size());
+        for (int index = 0; index < properties.replicas().size(); index++) {
+            HikariDataSource replica = replicaPool(properties, index, tuning, meterRegistry);
+            managedDataSources.add(replica);
+            replicas.add(replica);
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            managedDataSources.add(closeable);
+        }
+
+        ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(
+            primary,
+            replicas,
+            properties.maxLag(),
+            properties.lagCheckInterval()
+        );
+        managedDataSources.add(0, readOnly);
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(readOnly);
+        return routing;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (AutoCloseable dataSource : managedDataSources) {
+            dataSource.close();
+        }
+        managedDataSources.clear();
+    }
+
+    static HikariDataSource replicaPool(
+        ReadReplicaProperties properties,
+        int index,
+        IncidentOpsProperties.Persistence tuning,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        ReadReplicaProperties.Replica replica = properties.replicas().get(index);
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("incidentops-replica-" + index);
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username());
+        dataSource.setPassword(replica.password());
+        PersistenceTuningPostProcessor.tunePool(dataSource, tuning);
+        // Replica pools keep their own size cap; idle connections never exceed it.
+        dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+        dataSource.setMinimumIdle(Math.min(tuning.minimumIdle(), properties.maximumPoolSize()));
+        dataSource.setReadOnly(true);
+        dataSource.setInitializationFailTimeout(-1);
+        // Boot's Hikari metrics binder only sees pool beans, so replica pools register themselves once started.
+        dataSource.setMetricsTrackerFactory((poolName, poolStats) -> {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            return registry == null
+                ? new IMetricsTracker() { }
+                : new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats);
+        });
+        return dataSource;
+    }
+}
@@ -0,0 +1,140 @@
+package com.showoff.incidentops.springboot.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    static final String LAG_QUERY = """
+        select coalesce(
+            case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                 else extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000
+            end,
+            0
+        )
+        """;
+
+    static final Duration MIN_LAG_CHECK_INTERVAL = Duration.ofMillis(100);
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final ScheduledExecutorService lagChecks;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(
+        DataSource primary,
+        List<DataSource> replicas,
+        Duration maxLag,
+        Duration lagCheckInterval
+    ) {
+        this(primary, replicas, maxLag, lagCheckInterval, lagCheckScheduler(replicas.size()));
+    }
+
+    // Each replica is probed on its own scheduler thread, so an unreachable one never delays the others or a read.
+    ReplicaRoutingDataSource(
+        DataSource primary,
+        List<DataSource> replicas,
+        Duration maxLag,
+        Duration lagCheckInterval,
+        ScheduledExecutorService lagChecks
+    ) {
+        if (primary == null) {
+            throw new IllegalArgumentException("primary must not be null");
+        }
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagChecks = lagChecks;
+        long intervalMillis = Math.max(lagCheckInterval.toMillis(), MIN_LAG_CHECK_INTERVAL.toMillis());
+        for (Replica replica : this.replicas) {
+            lagChecks.scheduleWithFixedDelay(replica::refresh, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.available) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException ex) {
+                replica.markUnavailable(ex);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("replica routing uses the configured pool credentials");
+    }
+
+    @Override
+    public void close() {
+        lagChecks.shutdownNow();
+    }
+
+    void checkReplicas() {
+        replicas.forEach(Replica::refresh);
+    }
+
+    private static ScheduledExecutorService lagCheckScheduler(int replicas) {
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newScheduledThreadPool(Math.max(replicas, 1), task -> {
+            Thread thread = new Thread(task, "incidentops-replica-lag-" + threads.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Replicas start unavailable; reads go to the primary until the first lag check passes.
+    private final class Replica {
+        private final DataSource dataSource;
+        private volatile boolean available;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private void refresh() {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                long lagMillis = resultSet.next() ? resultSet.getLong(1) : Long.MAX_VALUE;
+                available = lagMillis <= maxLagMillis;
+                if (!available) {
+                    log.warn("read replica lag {}ms exceeds {}ms, routing reads to primary", lagMillis, maxLagMillis);
+                }
+            } catch (SQLException | RuntimeException ex) {
+                available = false;
+                log.warn("read replica lag check failed, routing reads to primary: {}", ex.getMessage());
+            }
+        }
+
+        private void markUnavailable(SQLException ex) {
+            available = false;
+            log.warn("read replica connection failed, routing reads to primary: {}", ex.getMessage());
+        }
+    }
+}
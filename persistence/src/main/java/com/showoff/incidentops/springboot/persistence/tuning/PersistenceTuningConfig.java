@@ -0,0 +1,16 @@
+package com.showoff.incidentops.springboot.persistence.tuning;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class PersistenceTuningConfig {
+    @Bean
+    public static PersistenceTuningPostProcessor persistenceTuningPostProcessor(
+        ObjectProvider<IncidentOpsProperties> properties
+    ) {
+        return new PersistenceTuningPostProcessor(properties);
+    }
+}
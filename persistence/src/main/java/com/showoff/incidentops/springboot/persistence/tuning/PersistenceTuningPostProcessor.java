@@ -0,0 +1,64 @@
+package com.showoff.incidentops.springboot.persistence.tuning;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import java.util.Map;
+
+public class PersistenceTuningPostProcessor implements BeanPostProcessor {
+    static final String PRIMARY_DATA_SOURCE_BEAN = "dataSource";
+    static final String PRIMARY_POOL_NAME = "incidentops-primary";
+    private static final String POSTGRES_URL_PREFIX = "jdbc:postgresql:";
+
+    private final ObjectProvider<IncidentOpsProperties> properties;
+
+    public PersistenceTuningPostProcessor(ObjectProvider<IncidentOpsProperties> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            if (dataSource.getPoolName() == null && PRIMARY_DATA_SOURCE_BEAN.equals(beanName)) {
+                dataSource.setPoolName(PRIMARY_POOL_NAME);
+            }
+            tunePool(dataSource, persistence(properties));
+        } else if (bean instanceof LocalContainerEntityManagerFactoryBean entityManagerFactory) {
+            tuneHibernate(entityManagerFactory.getJpaPropertyMap(), persistence(properties));
+        }
+        return bean;
+    }
+
+    public static IncidentOpsProperties.Persistence persistence(ObjectProvider<IncidentOpsProperties> properties) {
+        IncidentOpsProperties incidentOpsProperties = properties.getIfAvailable();
+        return incidentOpsProperties != null
+            ? incidentOpsProperties.persistence()
+            : IncidentOpsProperties.Persistence.DEFAULTS;
+    }
+
+    public static void tunePool(HikariDataSource dataSource, IncidentOpsProperties.Persistence properties) {
+        dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+        dataSource.setMinimumIdle(properties.minimumIdle());
+        dataSource.setConnectionTimeout(properties.connectionTimeout().toMillis());
+        String jdbcUrl = dataSource.getJdbcUrl();
+        if (jdbcUrl == null || !jdbcUrl.startsWith(POSTGRES_URL_PREFIX)) {
+            return;
+        }
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", Boolean.toString(properties.reWriteBatchedInserts()));
+        dataSource.addDataSourceProperty("prepareThreshold", Integer.toString(properties.prepareThreshold()));
+        dataSource.addDataSourceProperty(
+            "preparedStatementCacheQueries",
+            Integer.toString(properties.preparedStatementCacheQueries())
+        );
+    }
+
+    static void tuneHibernate(Map<String, Object> jpaProperties, IncidentOpsProperties.Persistence properties) {
+        jpaProperties.put("hibernate.jdbc.batch_size", Integer.toString(properties.jdbcBatchSize()));
+        jpaProperties.put("hibernate.order_inserts", Boolean.toString(properties.orderInserts()));
+        jpaProperties.put("hibernate.order_updates", Boolean.toString(properties.orderUpdates()));
+        jpaProperties.put("hibernate.jdbc.batch_versioned_data", "true");
+    }
+}
@@ -0,0 +1,11 @@
+CREATE TABLE incident_ticket_transitions (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    ticket_id VARCHAR(32) NOT NULL,
+    from_status VARCHAR(32),
+    to_status VARCHAR(32) NOT NULL,
+    ticket_version BIGINT NOT NULL,
+    changed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_incident_ticket_transitions_ticket_changed
+    ON incident_ticket_transitions (ticket_id, changed_at, id);
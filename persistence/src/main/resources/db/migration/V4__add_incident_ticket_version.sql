@@ -0,0 +1 @@
+ALTER TABLE incident_tickets ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
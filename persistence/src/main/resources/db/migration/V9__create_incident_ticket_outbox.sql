@@ -0,0 +1,8 @@
+CREATE TABLE incident_ticket_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type VARCHAR(64) NOT NULL,
+    ticket_id VARCHAR(32) NOT NULL,
+    service_id VARCHAR(64) NOT NULL,
+    severity INTEGER NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
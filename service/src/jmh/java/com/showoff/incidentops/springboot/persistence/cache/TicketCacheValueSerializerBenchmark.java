@@ -0,0 +1,91 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TicketCacheValueSerializerBenchmark {
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private TicketCacheValueSerializer binary;
+    private ObjectMapper json;
+    private IncidentTicketResponse ticket;
+    private Page<IncidentTicketResponse> page;
+    private byte[] binaryTicket;
+    private byte[] jsonTicket;
+    private byte[] binaryPage;
+
+    @Setup
+    public void setUp() throws Exception {
+        binary = new TicketCacheValueSerializer(getClass().getClassLoader());
+        json = new ObjectMapper();
+        ticket = new IncidentTicketResponse("TKT-5001", "payments-api", 4, "queue delay on settlement workers", "OPEN", 3);
+        List<IncidentTicketResponse> tickets = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            tickets.add(new IncidentTicketResponse("TKT-" + (5000 + i), "payments-api", 4, "queue delay " + i, "OPEN", i));
+        }
+        page = new PageImpl<>(tickets, PageRequest.of(0, pageSize), 10_000);
+        binaryTicket = binary.serialize(ticket);
+        jsonTicket = json.writeValueAsBytes(ticket);
+        binaryPage = binary.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] binarySerializeTicket() {
+        return binary.serialize(ticket);
+    }
+
+    @Benchmark
+    public byte[] jsonSerializeTicket() throws Exception {
+        return json.writeValueAsBytes(ticket);
+    }
+
+    @Benchmark
+    public Object binaryDeserializeTicket() {
+        return binary.deserialize(binaryTicket);
+    }
+
+    @Benchmark
+    public Object jsonDeserializeTicket() throws Exception {
+        return json.readValue(jsonTicket, IncidentTicketResponse.class);
+    }
+
+    @Benchmark
+    public byte[] binarySerializePage() {
+        return binary.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] jsonSerializePage() throws Exception {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Object binaryDeserializePage() {
+        return binary.deserialize(binaryPage);
+    }
+}
@@ -2,6 +2,8 @@ package com.showoff.incidentops.springboot.messaging.service;
 
 import com.showoff.incidentops.springboot.messaging.dto.IncidentCreatedEvent;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface IncidentEventPublisher {
-    void publishIncidentCreated(IncidentCreatedEvent event);
+    CompletableFuture<?> publishIncidentCreated(IncidentCreatedEvent event);
 }
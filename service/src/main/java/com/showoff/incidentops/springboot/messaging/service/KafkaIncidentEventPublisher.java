@@ -5,6 +5,8 @@ import com.showoff.incidentops.springboot.messaging.dto.IncidentCreatedEvent;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class KafkaIncidentEventPublisher implements IncidentEventPublisher {
     private final KafkaTemplate<String, IncidentCreatedEvent> kafkaTemplate;
@@ -19,10 +21,10 @@ public class KafkaIncidentEventPublisher implements IncidentEventPublisher {
     }
 
     @Override
-    public void publishIncidentCreated(IncidentCreatedEvent event) {
+    public CompletableFuture<?> publishIncidentCreated(IncidentCreatedEvent event) {
         if (event == null) {
             throw new IllegalArgumentException("event must not be null");
         }
-        kafkaTemplate.send(properties.messaging().kafka().topic(), event.incidentId(), event);
+        return kafkaTemplate.send(properties.messaging().kafka().topic(), event.incidentId(), event);
     }
 }
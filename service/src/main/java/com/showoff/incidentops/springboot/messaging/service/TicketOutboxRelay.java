@@ -0,0 +1,99 @@
+package com.showoff.incidentops.springboot.messaging.service;
+
+import com.showoff.incidentops.springboot.config.TicketOutboxProperties;
+import com.showoff.incidentops.springboot.messaging.dto.IncidentCreatedEvent;
+import com.showoff.incidentops.springboot.persistence.repository.TicketOutboxEvent;
+import com.showoff.incidentops.springboot.persistence.repository.TicketOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class TicketOutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(TicketOutboxRelay.class);
+
+    private final TicketOutboxRepository outbox;
+    private final IncidentEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TicketOutboxProperties properties;
+
+    public TicketOutboxRelay(
+        TicketOutboxRepository outbox,
+        IncidentEventPublisher publisher,
+        PlatformTransactionManager transactionManager,
+        TicketOutboxProperties properties
+    ) {
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${incidentops.outbox.poll-interval:1s}")
+    public void relayScheduled() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == properties.batchSize());
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay failed, pending events will be retried: {}", ex.getMessage());
+        }
+    }
+
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<TicketOutboxEvent> events = outbox.lockNextBatch(properties.batchSize());
+            if (events.isEmpty()) {
+                return 0;
+            }
+            List<CompletableFuture<?>> sends = new ArrayList<>(events.size());
+            List<Long> ids = new ArrayList<>(events.size());
+            for (TicketOutboxEvent event : events) {
+                sends.add(publish(event));
+                ids.add(event.id());
+            }
+            awaitAll(sends);
+            outbox.deleteByIds(ids);
+            return events.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    private CompletableFuture<?> publish(TicketOutboxEvent event) {
+        if (!TicketOutboxRepository.TICKET_CREATED.equals(event.eventType())) {
+            throw new IllegalStateException("unsupported outbox event type: " + event.eventType());
+        }
+        return publisher.publishIncidentCreated(new IncidentCreatedEvent(
+            event.ticketId(),
+            event.serviceId(),
+            event.severity(),
+            event.createdAt().toString()
+        ));
+    }
+
+    private void awaitAll(List<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                .get(properties.sendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("outbox relay interrupted", ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            throw new IllegalStateException("outbox publish failed", ex);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+public class BoundedConcurrentMapCacheManager extends ConcurrentMapCacheManager {
+    private final IncidentOpsProperties.CacheLimits limits;
+    private final MeterRegistry meterRegistry;
+
+    public BoundedConcurrentMapCacheManager(IncidentOpsProperties.CacheLimits limits) {
+        this(limits, new SimpleMeterRegistry());
+    }
+
+    public BoundedConcurrentMapCacheManager(IncidentOpsProperties.CacheLimits limits, MeterRegistry meterRegistry) {
+        this.limits = limits;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Caffeine's map view keeps ConcurrentMapCache semantics while enforcing the size and TTL limits.
+    @Override
+    protected Cache createConcurrentMapCache(String name) {
+        IncidentOpsProperties.CacheLimits.Limit limit = limits.limitFor(name);
+        return new ConcurrentMapCache(
+            name,
+            Caffeine.newBuilder()
+                .maximumSize(limit.maxEntries())
+                .expireAfterWrite(limit.ttl())
+                .evictionListener(CacheStatistics.evictionListener(meterRegistry, name, CacheStatistics.SIMPLE_BACKEND))
+                .build()
+                .asMap(),
+            isAllowNullValues()
+        );
+    }
+}
@@ -0,0 +1,183 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public class BoundedRedisCache implements Cache {
+    // The index scores each key by write time: expired keys are dropped from it, then the oldest writes are popped.
+    // Runs as one script so concurrent writers never see or trim a half-updated index.
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> TRACK_SCRIPT = new DefaultRedisScript<>("""
+        local now = tonumber(ARGV[2])
+        local ttl = tonumber(ARGV[3])
+        redis.call('ZADD', KEYS[1], now, ARGV[1])
+        redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - ttl)
+        local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[4])
+        local evicted = {}
+        if overflow > 0 then
+            local popped = redis.call('ZPOPMIN', KEYS[1], overflow)
+            for i = 1, #popped, 2 do
+                evicted[#evicted + 1] = popped[i]
+            end
+        end
+        redis.call('PEXPIRE', KEYS[1], ttl)
+        return evicted
+        """, List.class);
+
+    private final Cache delegate;
+    private final StringRedisTemplate redisTemplate;
+    private final String indexKey;
+    private final long maxEntries;
+    private final Duration ttl;
+
+    public BoundedRedisCache(Cache delegate, StringRedisTemplate redisTemplate, String indexKey, long maxEntries, Duration ttl) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.indexKey = indexKey;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        requireStringKey(key);
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        requireStringKey(key);
+        return delegate.retrieve(key, () -> valueLoader.get().thenApply(value -> {
+            track(key);
+            return value;
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        requireStringKey(key);
+        delegate.put(key, value);
+        track(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        requireStringKey(key);
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            track(key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        untrack(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        untrack(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        redisTemplate.delete(indexKey);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        redisTemplate.delete(indexKey);
+        return invalidated;
+    }
+
+    // Counts index members written within the TTL, so keys expired but not yet trimmed are left out.
+    long size() {
+        Long size = redisTemplate.opsForZSet().count(
+            indexKey,
+            System.currentTimeMillis() - ttl.toMillis(),
+            Double.POSITIVE_INFINITY
+        );
+        return size == null ? 0 : size;
+    }
+
+    // Entries pushed out of the index are evicted through RedisCache, which owns the key prefix and conversion.
+    private void track(Object key) {
+        List<?> evicted = redisTemplate.execute(
+            TRACK_SCRIPT,
+            List.of(indexKey),
+            (String) key,
+            Long.toString(System.currentTimeMillis()),
+            Long.toString(ttl.toMillis()),
+            Long.toString(maxEntries)
+        );
+        if (evicted != null) {
+            evicted.forEach(delegate::evict);
+        }
+    }
+
+    private void untrack(Object key) {
+        if (key instanceof String member) {
+            redisTemplate.opsForZSet().remove(indexKey, member);
+        }
+    }
+
+    // Index members are the cache keys themselves, which RedisCache stores unchanged only when they are Strings.
+    private void requireStringKey(Object key) {
+        if (!(key instanceof String)) {
+            throw new IllegalArgumentException(
+                "cache " + getName() + " only accepts String keys, got " + (key == null ? "null" : key.getClass().getName())
+            );
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+public class BoundedRedisCacheManager extends RedisCacheManager {
+    private final StringRedisTemplate redisTemplate;
+    private final IncidentOpsProperties.CacheLimits limits;
+
+    public BoundedRedisCacheManager(
+        RedisConnectionFactory connectionFactory,
+        RedisCacheConfiguration defaults,
+        StringRedisTemplate redisTemplate,
+        IncidentOpsProperties.CacheLimits limits
+    ) {
+        super(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), defaults);
+        this.redisTemplate = redisTemplate;
+        this.limits = limits;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        RedisCacheConfiguration configuration = cacheConfiguration != null ? cacheConfiguration : getDefaultCacheConfiguration();
+        return super.createRedisCache(name, configuration.entryTtl(limits.limitFor(name).ttl()));
+    }
+
+    @Override
+    protected Cache decorateCache(Cache cache) {
+        IncidentOpsProperties.CacheLimits.Limit limit = limits.limitFor(cache.getName());
+        return new BoundedRedisCache(
+            super.decorateCache(cache),
+            redisTemplate,
+            indexKey(cache.getName()),
+            limit.maxEntries(),
+            limit.ttl()
+        );
+    }
+
+    // Sits next to the cache's key prefix rather than under it, so RedisCache#clear never scans it as an entry.
+    static String indexKey(String cacheName) {
+        return RedisCacheSerializationConfig.KEY_PREFIX + cacheName + ":index";
+    }
+}
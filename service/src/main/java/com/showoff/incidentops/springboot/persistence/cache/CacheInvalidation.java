@@ -0,0 +1,33 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+public record CacheInvalidation(Kind kind, String cacheName, String value) {
+    public enum Kind {
+        EVICT,
+        CLEAR,
+        GENERATION
+    }
+
+    public CacheInvalidation {
+        if (kind == null) {
+            throw new IllegalArgumentException("kind must not be null");
+        }
+        if (cacheName == null || cacheName.isBlank()) {
+            throw new IllegalArgumentException("cacheName must not be blank");
+        }
+        if (kind != Kind.CLEAR && value == null) {
+            throw new IllegalArgumentException("value must not be null for " + kind);
+        }
+    }
+
+    public static CacheInvalidation evict(String cacheName, String key) {
+        return new CacheInvalidation(Kind.EVICT, cacheName, key);
+    }
+
+    public static CacheInvalidation clear(String cacheName) {
+        return new CacheInvalidation(Kind.CLEAR, cacheName, null);
+    }
+
+    public static CacheInvalidation generation(String cacheName, String tag, long generation) {
+        return new CacheInvalidation(Kind.GENERATION, cacheName, tag + "@" + generation);
+    }
+}
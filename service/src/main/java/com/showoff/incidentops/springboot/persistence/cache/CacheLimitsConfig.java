@@ -0,0 +1,59 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration(proxyBeanMethods = false)
+public class CacheLimitsConfig {
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "simple")
+    CacheManager boundedSimpleCacheManager(IncidentOpsProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BoundedConcurrentMapCacheManager(
+            properties.cacheLimits(),
+            meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${spring.cache.type:}' == 'redis' and !${incidentops.cache.near.enabled:false}")
+    CacheManager boundedRedisCacheManager(
+        RedisConnectionFactory connectionFactory,
+        ObjectProvider<RedisCacheConfiguration> redisCacheConfiguration,
+        StringRedisTemplate redisTemplate,
+        IncidentOpsProperties properties
+    ) {
+        return redisCacheManager(connectionFactory, redisCacheConfiguration, redisTemplate, properties.cacheLimits());
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${spring.cache.type:}' == 'redis' and !${incidentops.cache.near.enabled:false}")
+    CacheTagGenerations redisCacheTagGenerations(StringRedisTemplate redisTemplate) {
+        return new RedisCacheTagGenerations(redisTemplate);
+    }
+
+    static BoundedRedisCacheManager redisCacheManager(
+        RedisConnectionFactory connectionFactory,
+        ObjectProvider<RedisCacheConfiguration> redisCacheConfiguration,
+        StringRedisTemplate redisTemplate,
+        IncidentOpsProperties.CacheLimits limits
+    ) {
+        BoundedRedisCacheManager manager = new BoundedRedisCacheManager(
+            connectionFactory,
+            redisCacheConfiguration.getIfAvailable(RedisCacheConfiguration::defaultCacheConfig),
+            redisTemplate,
+            limits
+        );
+        manager.initializeCaches();
+        return manager;
+    }
+}
@@ -0,0 +1,19 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import java.util.List;
+
+public record CacheSnapshot(
+    String name,
+    String backend,
+    Long size,
+    long hits,
+    long misses,
+    double hitRatio,
+    long loads,
+    double meanLoadMillis,
+    long coalescedLoads,
+    long evictions,
+    List<KeyRequests> topKeys
+) {
+    public record KeyRequests(String key, long requests) {}
+}
@@ -0,0 +1,192 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.NoOpCache;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheStatistics {
+    static final String GETS_METRIC = "incidentops.cache.gets";
+    static final String LOADS_METRIC = "incidentops.cache.loads";
+    static final String COALESCED_METRIC = "incidentops.cache.loads.coalesced";
+    static final String EVICTIONS_METRIC = "incidentops.cache.evictions";
+    static final String SIZE_METRIC = "incidentops.cache.size";
+    static final String SIMPLE_BACKEND = "simple";
+    static final String NEAR_CACHE_BACKEND = "caffeine+redis";
+    static final int MAX_TRACKED_KEYS = 1_000;
+    static final Duration TRACKED_KEY_IDLE = Duration.ofMinutes(10);
+
+    private final Cache cache;
+    private final String backend;
+    private final MeterRegistry meterRegistry;
+    private final Tags tags;
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer loads;
+    private final Counter coalesced;
+    private final Counter evictions;
+    // Size-bounded and idle-expiring, so keys that stop being requested make room for the ones that are hot now.
+    private final com.github.benmanes.caffeine.cache.Cache<String, LongAdder> requestsByKey = Caffeine.newBuilder()
+        .maximumSize(MAX_TRACKED_KEYS)
+        .expireAfterAccess(TRACKED_KEY_IDLE)
+        .executor(Runnable::run)
+        .build();
+
+    public CacheStatistics(Cache cache, MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.backend = backendOf(cache);
+        this.meterRegistry = meterRegistry;
+        this.tags = Tags.of("cache", cache.getName(), "backend", backend);
+        this.hits = Counter.builder(GETS_METRIC)
+            .description("Cache lookups")
+            .tags(tags)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder(GETS_METRIC)
+            .description("Cache lookups")
+            .tags(tags)
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.loads = Timer.builder(LOADS_METRIC)
+            .description("Cache misses that loaded the value from the database")
+            .tags(tags)
+            .register(meterRegistry);
+        this.coalesced = Counter.builder(COALESCED_METRIC)
+            .description("Cache misses that waited for a load already in flight")
+            .tags(tags)
+            .register(meterRegistry);
+        this.evictions = evictionCounter(meterRegistry, tags, "explicit");
+        if (countsEntries(cache)) {
+            Gauge.builder(SIZE_METRIC, this, statistics -> statistics.size())
+                .description("Entries held by the cache")
+                .tags(tags)
+                .register(meterRegistry);
+        }
+    }
+
+    void recordGet(Object key, boolean hit) {
+        (hit ? hits : misses).increment();
+        requestsByKey.get(String.valueOf(key), ignored -> new LongAdder()).increment();
+    }
+
+    void recordLoad(long durationNanos) {
+        loads.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    public CacheSnapshot snapshot(int topKeys) {
+        long hitCount = (long) hits.count();
+        long lookups = hitCount + (long) misses.count();
+        requestsByKey.cleanUp();
+        List<CacheSnapshot.KeyRequests> busiest = requestsByKey.asMap().entrySet().stream()
+            .map(entry -> new CacheSnapshot.KeyRequests(entry.getKey(), entry.getValue().sum()))
+            .sorted(Comparator.comparingLong(CacheSnapshot.KeyRequests::requests).reversed()
+                .thenComparing(CacheSnapshot.KeyRequests::key))
+            .limit(topKeys)
+            .toList();
+        return new CacheSnapshot(
+            cache.getName(),
+            backend,
+            size(),
+            hitCount,
+            lookups - hitCount,
+            lookups == 0 ? 0.0 : (double) hitCount / lookups,
+            loads.count(),
+            loads.mean(TimeUnit.MILLISECONDS),
+            (long) coalesced.count(),
+            (long) meterRegistry.find(EVICTIONS_METRIC).tags(tags).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum(),
+            busiest
+        );
+    }
+
+    // Caffeine tiers drop entries on their own; those drops are counted under the cause Caffeine reports.
+    static RemovalListener<Object, Object> evictionListener(MeterRegistry meterRegistry, String cacheName, String backend) {
+        Tags tags = Tags.of("cache", cacheName, "backend", backend);
+        Map<RemovalCause, Counter> counters = new EnumMap<>(RemovalCause.class);
+        for (RemovalCause cause : RemovalCause.values()) {
+            if (cause.wasEvicted()) {
+                counters.put(cause, evictionCounter(meterRegistry, tags, cause.name().toLowerCase(Locale.ROOT)));
+            }
+        }
+        return (key, value, cause) -> {
+            Counter counter = counters.get(cause);
+            if (counter != null) {
+                counter.increment();
+            }
+        };
+    }
+
+    // Redis is counted from its size index; in-process backends count their own map.
+    Long size() {
+        if (cache instanceof BoundedRedisCache redis) {
+            return redis.size();
+        }
+        Object nativeCache = cache.getNativeCache();
+        if (nativeCache instanceof Map<?, ?> map) {
+            return (long) map.size();
+        }
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return caffeine.estimatedSize();
+        }
+        return null;
+    }
+
+    private static boolean countsEntries(Cache cache) {
+        Object nativeCache = cache.getNativeCache();
+        return cache instanceof BoundedRedisCache
+            || nativeCache instanceof Map<?, ?>
+            || nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?>;
+    }
+
+    static String backendOf(Cache cache) {
+        if (cache instanceof TwoLevelCache) {
+            return NEAR_CACHE_BACKEND;
+        }
+        if (cache instanceof BoundedRedisCache) {
+            return "redis";
+        }
+        if (cache instanceof ConcurrentMapCache) {
+            return SIMPLE_BACKEND;
+        }
+        if (cache instanceof NoOpCache) {
+            return "none";
+        }
+        if (cache.getClass().getName().startsWith("org.springframework.data.redis.")) {
+            return "redis";
+        }
+        return cache.getClass().getSimpleName();
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, Tags tags, String cause) {
+        return Counter.builder(EVICTIONS_METRIC)
+            .description("Entries removed from the cache, by cause")
+            .tags(tags)
+            .tag("cause", cause)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@Endpoint(id = "incidentops-caches")
+public class CacheStatisticsEndpoint {
+    static final int TOP_KEYS = 10;
+
+    private final CacheManager cacheManager;
+
+    public CacheStatisticsEndpoint(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @ReadOperation
+    public List<CacheSnapshot> caches() {
+        return cacheManager.getCacheNames().stream()
+            .sorted()
+            .map(this::snapshot)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    @ReadOperation
+    public CacheSnapshot cache(@Selector String name) {
+        return snapshot(name);
+    }
+
+    // Dynamic managers create a cache on lookup, so unknown names are rejected before getCache.
+    private CacheSnapshot snapshot(String name) {
+        if (!cacheManager.getCacheNames().contains(name)) {
+            return null;
+        }
+        Cache cache = cacheManager.getCache(name);
+        if (cache instanceof SingleFlightCache instrumented) {
+            return instrumented.statistics().snapshot(TOP_KEYS);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+public interface CacheTagGenerations {
+    long current(String cacheName, String tag);
+
+    long advance(String cacheName, String tag);
+}
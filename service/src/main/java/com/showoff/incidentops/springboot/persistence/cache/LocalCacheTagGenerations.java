@@ -0,0 +1,24 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LocalCacheTagGenerations implements CacheTagGenerations {
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Override
+    public long current(String cacheName, String tag) {
+        AtomicLong generation = generations.get(key(cacheName, tag));
+        return generation == null ? 0 : generation.get();
+    }
+
+    @Override
+    public long advance(String cacheName, String tag) {
+        return generations.computeIfAbsent(key(cacheName, tag), ignored -> new AtomicLong()).incrementAndGet();
+    }
+
+    private static String key(String cacheName, String tag) {
+        return cacheName + ":" + tag;
+    }
+}
@@ -0,0 +1,76 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "incidentops.cache.near", name = "enabled", havingValue = "true")
+public class NearCacheConfig {
+    @Bean
+    RedisCacheInvalidationBus cacheInvalidationBus(StringRedisTemplate redisTemplate, NearCacheProperties properties) {
+        return new RedisCacheInvalidationBus(redisTemplate, properties.channel());
+    }
+
+    @Bean
+    RedisMessageListenerContainer cacheInvalidationListenerContainer(
+        RedisConnectionFactory connectionFactory,
+        RedisCacheInvalidationBus bus,
+        NearCacheProperties properties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(bus, new ChannelTopic(properties.channel()));
+        return container;
+    }
+
+    @Bean
+    CacheTagGenerations nearCacheTagGenerations(
+        StringRedisTemplate redisTemplate,
+        RedisCacheInvalidationBus bus,
+        NearCacheProperties properties
+    ) {
+        NearCacheTagGenerations generations =
+            new NearCacheTagGenerations(new RedisCacheTagGenerations(redisTemplate), bus, properties);
+        bus.subscribe(generations::apply);
+        return generations;
+    }
+
+    @Bean
+    CacheManager cacheManager(
+        RedisConnectionFactory connectionFactory,
+        ObjectProvider<RedisCacheConfiguration> redisCacheConfiguration,
+        StringRedisTemplate redisTemplate,
+        IncidentOpsProperties incidentOpsProperties,
+        NearCacheProperties properties,
+        RedisCacheInvalidationBus bus,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        IncidentOpsProperties.CacheLimits limits = incidentOpsProperties.cacheLimits();
+        BoundedRedisCacheManager remote = CacheLimitsConfig.redisCacheManager(
+            connectionFactory,
+            redisCacheConfiguration,
+            redisTemplate,
+            limits
+        );
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+            remote,
+            properties,
+            limits,
+            bus,
+            meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+        bus.subscribe(cacheManager::apply);
+        return cacheManager;
+    }
+}
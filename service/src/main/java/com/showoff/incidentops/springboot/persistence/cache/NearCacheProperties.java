@@ -0,0 +1,29 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "incidentops.cache.near")
+public record NearCacheProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue({"ticketsById", "ticketPagesByStatus", "ticketPagesByServiceSeverity"}) List<String> cacheNames,
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("30s") Duration expireAfterWrite,
+    @DefaultValue("incidentops:cache-invalidation") String channel
+) {
+    public NearCacheProperties {
+        cacheNames = cacheNames == null ? List.of() : List.copyOf(cacheNames);
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1");
+        }
+        if (expireAfterWrite == null || expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            throw new IllegalArgumentException("expireAfterWrite must be greater than zero");
+        }
+        if (channel == null || channel.isBlank()) {
+            throw new IllegalArgumentException("channel must not be blank");
+        }
+    }
+}
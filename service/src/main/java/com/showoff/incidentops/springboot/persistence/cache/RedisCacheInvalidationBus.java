@@ -0,0 +1,75 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class RedisCacheInvalidationBus implements CacheInvalidationBus, MessageListener {
+    private static final Logger log = LoggerFactory.getLogger(RedisCacheInvalidationBus.class);
+    private static final String SEPARATOR = "\t";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<CacheInvalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(channel, encode(nodeId, invalidation));
+        } catch (RuntimeException ex) {
+            log.warn("could not publish {} invalidation for cache {}", invalidation.kind(), invalidation.cacheName(), ex);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        if (parts.length != 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+        CacheInvalidation invalidation;
+        try {
+            CacheInvalidation.Kind kind = CacheInvalidation.Kind.valueOf(parts[1]);
+            invalidation = new CacheInvalidation(kind, parts[2], kind == CacheInvalidation.Kind.CLEAR ? null : parts[3]);
+        } catch (IllegalArgumentException ex) {
+            log.warn("ignoring malformed cache invalidation on {}", channel);
+            return;
+        }
+        for (Consumer<CacheInvalidation> subscriber : subscribers) {
+            subscriber.accept(invalidation);
+        }
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    static String encode(String origin, CacheInvalidation invalidation) {
+        return String.join(
+            SEPARATOR,
+            origin,
+            invalidation.kind().name(),
+            invalidation.cacheName(),
+            invalidation.value() == null ? "" : invalidation.value()
+        );
+    }
+}
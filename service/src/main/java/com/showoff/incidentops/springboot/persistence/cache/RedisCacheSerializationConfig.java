@@ -0,0 +1,22 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+@Configuration(proxyBeanMethods = false)
+public class RedisCacheSerializationConfig {
+    static final String KEY_PREFIX = "incidentops:v" + TicketCacheValueSerializer.FORMAT_VERSION + ":";
+
+    // Keys carry the format version, so a deploy that changes the codec starts from empty entries.
+    @Bean
+    public RedisCacheConfiguration redisCacheConfiguration() {
+        ClassLoader classLoader = RedisCacheSerializationConfig.class.getClassLoader();
+        return RedisCacheConfiguration.defaultCacheConfig(classLoader)
+            .computePrefixWith(cacheName -> KEY_PREFIX + cacheName + "::")
+            .serializeValuesWith(
+                RedisSerializationContext.SerializationPair.fromSerializer(new TicketCacheValueSerializer(classLoader))
+            );
+    }
+}
@@ -0,0 +1,33 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// Counters never expire: they are one small key per written status or service, and a reset could revive old pages.
+public class RedisCacheTagGenerations implements CacheTagGenerations {
+    static final String KEY_PREFIX = "incidentops:cache-generation:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisCacheTagGenerations(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long current(String cacheName, String tag) {
+        String generation = redisTemplate.opsForValue().get(key(cacheName, tag));
+        return generation == null ? 0 : Long.parseLong(generation);
+    }
+
+    @Override
+    public long advance(String cacheName, String tag) {
+        Long generation = redisTemplate.opsForValue().increment(key(cacheName, tag));
+        if (generation == null) {
+            throw new IllegalStateException("redis returned no generation for " + cacheName + " tag " + tag);
+        }
+        return generation;
+    }
+
+    static String key(String cacheName, String tag) {
+        return KEY_PREFIX + cacheName + ":" + tag;
+    }
+}
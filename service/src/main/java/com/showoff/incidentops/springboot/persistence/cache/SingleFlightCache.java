@@ -0,0 +1,289 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public class SingleFlightCache implements Cache {
+    private static final Logger log = LoggerFactory.getLogger(SingleFlightCache.class);
+
+    private final Cache delegate;
+    private final CacheStatistics statistics;
+    private final Map<Object, Load> inFlight = new ConcurrentHashMap<>();
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final long refreshAfterWriteNanos;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Long> writtenAt;
+    private final Executor refreshExecutor;
+
+    public SingleFlightCache(Cache delegate, MeterRegistry meterRegistry) {
+        this(delegate, meterRegistry, null, 0);
+    }
+
+    public SingleFlightCache(Cache delegate, MeterRegistry meterRegistry, Duration refreshAfterWrite, long maxEntries) {
+        this(delegate, meterRegistry, refreshAfterWrite, maxEntries, Runnable::run);
+    }
+
+    public SingleFlightCache(
+        Cache delegate,
+        MeterRegistry meterRegistry,
+        Duration refreshAfterWrite,
+        long maxEntries,
+        Executor refreshExecutor
+    ) {
+        this.delegate = delegate;
+        this.statistics = new CacheStatistics(delegate, meterRegistry);
+        this.refreshAfterWriteNanos = refreshAfterWrite == null ? 0 : refreshAfterWrite.toNanos();
+        this.writtenAt = refreshAfterWrite == null ? null : Caffeine.newBuilder().maximumSize(maxEntries).build();
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public CacheStatistics statistics() {
+        return statistics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper cached = delegate.get(key);
+        statistics.recordGet(key, cached != null);
+        return cached;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        statistics.recordGet(key, cached != null);
+        if (cached != null) {
+            if (dueForRefresh(key)) {
+                refresh(key, valueLoader);
+            }
+            return (T) cached.get();
+        }
+        Load load = new Load();
+        Load running = inFlight.putIfAbsent(key, load);
+        if (running != null) {
+            statistics.recordCoalesced();
+            return (T) await(running.result);
+        }
+        try {
+            ValueWrapper loaded = delegate.get(key);
+            Object value = loaded != null ? loaded.get() : loadAndStore(key, load, valueLoader);
+            load.result.complete(value);
+            return (T) value;
+        } catch (RuntimeException | Error ex) {
+            load.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        markWritten(key);
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            markWritten(key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        forgetWritten(key);
+        invalidateLoad(key);
+        delegate.evict(key);
+        statistics.recordEviction();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        forgetWritten(key);
+        invalidateLoad(key);
+        boolean evicted = delegate.evictIfPresent(key);
+        if (evicted) {
+            statistics.recordEviction();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        if (writtenAt != null) {
+            writtenAt.invalidateAll();
+        }
+        inFlight.keySet().forEach(this::invalidateLoad);
+        delegate.clear();
+        statistics.recordEviction();
+    }
+
+    @Override
+    public boolean invalidate() {
+        if (writtenAt != null) {
+            writtenAt.invalidateAll();
+        }
+        inFlight.keySet().forEach(this::invalidateLoad);
+        boolean invalidated = delegate.invalidate();
+        statistics.recordEviction();
+        return invalidated;
+    }
+
+    int inFlightLoads() {
+        return inFlight.size();
+    }
+
+    // Entries written by another node or before this one started are timed from when this node first reads them.
+    private boolean dueForRefresh(Object key) {
+        if (writtenAt == null) {
+            return false;
+        }
+        long now = System.nanoTime();
+        return now - writtenAt.get(key, ignored -> now) >= refreshAfterWriteNanos;
+    }
+
+    // The first reader past the refresh interval schedules a reload and, like everyone else, gets the cached value.
+    private void refresh(Object key, Callable<?> valueLoader) {
+        Long stamp = writtenAt.getIfPresent(key);
+        if (stamp == null || !refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> reload(key, stamp, valueLoader));
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(key);
+            log.warn("could not schedule refresh of key {} in cache {}, keeping the cached value", key, getName());
+        }
+    }
+
+    // Writes and evictions restamp or drop the key before touching the delegate, and the stamp's map entry is
+    // locked while the reloaded value is stored, so a reload that raced a write is discarded instead of stored.
+    private void reload(Object key, Long stamp, Callable<?> valueLoader) {
+        try {
+            Object value = load(key, valueLoader);
+            writtenAt.asMap().computeIfPresent(key, (ignored, current) -> {
+                if (!current.equals(stamp)) {
+                    return current;
+                }
+                delegate.put(key, value);
+                return System.nanoTime();
+            });
+        } catch (RuntimeException ex) {
+            writtenAt.asMap().replace(key, stamp, System.nanoTime());
+            log.warn("could not refresh key {} in cache {}, keeping the cached value", key, getName(), ex);
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    // Evictions mark the key's load before touching the delegate, and the mark is checked under the same map lock
+    // as the store, so a load that started before an evict or clear is returned to its callers but never cached.
+    // putIfAbsent keeps a value written by a concurrent update instead of overwriting it with what was just read.
+    private Object loadAndStore(Object key, Load load, Callable<?> valueLoader) {
+        Object value = load(key, valueLoader);
+        AtomicReference<Object> result = new AtomicReference<>(value);
+        inFlight.computeIfPresent(key, (ignored, current) -> {
+            if (current == load && !current.invalidated) {
+                ValueWrapper existing = putIfAbsent(key, value);
+                if (existing != null) {
+                    result.set(existing.get());
+                }
+            }
+            return current;
+        });
+        return result.get();
+    }
+
+    private void invalidateLoad(Object key) {
+        inFlight.computeIfPresent(key, (ignored, load) -> {
+            load.invalidated = true;
+            return load;
+        });
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        long started = System.nanoTime();
+        try {
+            return valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            statistics.recordLoad(System.nanoTime() - started);
+        }
+    }
+
+    private void markWritten(Object key) {
+        if (writtenAt != null) {
+            writtenAt.put(key, System.nanoTime());
+        }
+    }
+
+    private void forgetWritten(Object key) {
+        if (writtenAt != null) {
+            writtenAt.invalidate(key);
+        }
+    }
+
+    private static final class Load {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        // Only read and written under the key's inFlight map lock.
+        private boolean invalidated;
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
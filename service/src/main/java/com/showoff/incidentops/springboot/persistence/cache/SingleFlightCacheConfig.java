@@ -0,0 +1,22 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+
+@Configuration(proxyBeanMethods = false)
+public class SingleFlightCacheConfig {
+    @Bean
+    public static SingleFlightCachePostProcessor singleFlightCachePostProcessor(
+        ObjectProvider<MeterRegistry> meterRegistry,
+        ObjectProvider<IncidentOpsProperties> properties,
+        @Qualifier("incidentOpsAsyncExecutor") ObjectProvider<Executor> refreshExecutor
+    ) {
+        return new SingleFlightCachePostProcessor(meterRegistry, properties, refreshExecutor);
+    }
+}
@@ -0,0 +1,71 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+public class SingleFlightCacheManager implements CacheManager {
+    private final CacheManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final IncidentOpsProperties.CacheLimits limits;
+    private final Executor refreshExecutor;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public SingleFlightCacheManager(CacheManager delegate, MeterRegistry meterRegistry) {
+        this(delegate, meterRegistry, new IncidentOpsProperties.CacheLimits(null, null));
+    }
+
+    public SingleFlightCacheManager(
+        CacheManager delegate,
+        MeterRegistry meterRegistry,
+        IncidentOpsProperties.CacheLimits limits
+    ) {
+        this(delegate, meterRegistry, limits, Runnable::run);
+    }
+
+    public SingleFlightCacheManager(
+        CacheManager delegate,
+        MeterRegistry meterRegistry,
+        IncidentOpsProperties.CacheLimits limits,
+        Executor refreshExecutor
+    ) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.limits = limits;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        IncidentOpsProperties.CacheLimits.Limit limit = limits.limitFor(name);
+        return caches.computeIfAbsent(
+            name,
+            ignored -> new SingleFlightCache(
+                target,
+                meterRegistry,
+                limit.refreshAfterWrite(),
+                limit.maxEntries(),
+                refreshExecutor
+            )
+        );
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,42 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+
+import java.util.concurrent.Executor;
+
+public class SingleFlightCachePostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<IncidentOpsProperties> properties;
+    private final ObjectProvider<Executor> refreshExecutor;
+
+    public SingleFlightCachePostProcessor(
+        ObjectProvider<MeterRegistry> meterRegistry,
+        ObjectProvider<IncidentOpsProperties> properties,
+        ObjectProvider<Executor> refreshExecutor
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof CacheManager cacheManager) || bean instanceof SingleFlightCacheManager) {
+            return bean;
+        }
+        IncidentOpsProperties incidentOpsProperties = properties.getIfAvailable();
+        return new SingleFlightCacheManager(
+            cacheManager,
+            meterRegistry.getIfAvailable(SimpleMeterRegistry::new),
+            incidentOpsProperties != null
+                ? incidentOpsProperties.cacheLimits()
+                : new IncidentOpsProperties.CacheLimits(null, null),
+            refreshExecutor.getIfAvailable(() -> Runnable::run)
+        );
+    }
+}
@@ -0,0 +1,185 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsGroup;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class TicketCacheValueSerializer implements RedisSerializer<Object> {
+    static final byte FORMAT_VERSION = 1;
+    static final byte TYPE_JDK = 0;
+    static final byte TYPE_TICKET = 1;
+    static final byte TYPE_TICKET_PAGE = 2;
+    static final byte TYPE_STATS = 3;
+    private static final int HEADER_LENGTH = 2;
+
+    private final RedisSerializer<Object> fallback;
+
+    public TicketCacheValueSerializer(ClassLoader classLoader) {
+        this.fallback = new JdkSerializationRedisSerializer(classLoader);
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            if (value instanceof IncidentTicketResponse ticket) {
+                out.writeByte(TYPE_TICKET);
+                writeTicket(out, ticket);
+            } else if (value instanceof Page<?> page && isTicketPage(page)) {
+                out.writeByte(TYPE_TICKET_PAGE);
+                writeVarLong(out, page.getNumber());
+                writeVarLong(out, page.getSize());
+                writeVarLong(out, page.getTotalElements());
+                writeVarLong(out, page.getNumberOfElements());
+                for (Object ticket : page.getContent()) {
+                    writeTicket(out, (IncidentTicketResponse) ticket);
+                }
+            } else if (value instanceof TicketStatsResponse stats) {
+                out.writeByte(TYPE_STATS);
+                writeString(out, stats.status());
+                writeVarLong(out, stats.total());
+                writeVarLong(out, stats.groups().size());
+                for (TicketStatsGroup group : stats.groups()) {
+                    writeString(out, group.serviceId());
+                    writeVarLong(out, group.severity());
+                    writeString(out, group.status());
+                    writeVarLong(out, group.count());
+                }
+            } else {
+                out.writeByte(TYPE_JDK);
+                out.write(fallback.serialize(value));
+            }
+        } catch (IOException ex) {
+            throw new SerializationException("could not serialize cache value", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[0] != FORMAT_VERSION) {
+            throw new SerializationException("unsupported cache value format " + bytes[0]);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length))) {
+            return switch (bytes[1]) {
+                case TYPE_TICKET -> readTicket(in);
+                case TYPE_TICKET_PAGE -> {
+                    int page = (int) readVarLong(in);
+                    int size = (int) readVarLong(in);
+                    long total = readVarLong(in);
+                    int count = (int) readVarLong(in);
+                    List<IncidentTicketResponse> content = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        content.add(readTicket(in));
+                    }
+                    yield new PageImpl<>(content, PageRequest.of(page, size), total);
+                }
+                case TYPE_STATS -> {
+                    String status = readString(in);
+                    long total = readVarLong(in);
+                    int count = (int) readVarLong(in);
+                    List<TicketStatsGroup> groups = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        groups.add(new TicketStatsGroup(readString(in), (int) readVarLong(in), readString(in), readVarLong(in)));
+                    }
+                    yield new TicketStatsResponse(status, total, List.copyOf(groups));
+                }
+                case TYPE_JDK -> fallback.deserialize(Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length));
+                default -> throw new SerializationException("unknown cache value type " + bytes[1]);
+            };
+        } catch (IOException ex) {
+            throw new SerializationException("could not deserialize cache value", ex);
+        }
+    }
+
+    private static boolean isTicketPage(Page<?> page) {
+        return page.getPageable().isPaged()
+            && page.getContent().stream().allMatch(IncidentTicketResponse.class::isInstance);
+    }
+
+    private static void writeTicket(DataOutput out, IncidentTicketResponse ticket) throws IOException {
+        writeString(out, ticket.ticketId());
+        writeString(out, ticket.serviceId());
+        writeVarLong(out, ticket.severity());
+        writeString(out, ticket.summary());
+        writeString(out, ticket.status());
+        writeVarLong(out, ticket.version());
+    }
+
+    private static IncidentTicketResponse readTicket(DataInput in) throws IOException {
+        return new IncidentTicketResponse(
+            readString(in),
+            readString(in),
+            (int) readVarLong(in),
+            readString(in),
+            readString(in),
+            readVarLong(in)
+        );
+    }
+
+    // Length is stored as byte count + 1 so that 0 can mark a null string.
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        long length = readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[Math.toIntExact(length - 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int next = in.readUnsignedByte();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("malformed varint in cache value");
+    }
+}
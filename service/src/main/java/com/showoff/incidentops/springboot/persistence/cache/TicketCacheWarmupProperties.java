@@ -0,0 +1,37 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "incidentops.cache.warmup")
+public record TicketCacheWarmupProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("OPEN") List<String> statuses,
+    @DefaultValue("1") int pages,
+    @DefaultValue("20") int pageSize,
+    @DefaultValue("5") int topServices,
+    @DefaultValue("1") int minSeverity,
+    @DefaultValue("10s") Duration startupTimeout
+) {
+    public TicketCacheWarmupProperties {
+        statuses = statuses == null ? List.of() : List.copyOf(statuses);
+        if (pages < 1 || pages > 10) {
+            throw new IllegalArgumentException("pages must be between 1 and 10");
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be at least 1");
+        }
+        if (topServices < 0 || topServices > 100) {
+            throw new IllegalArgumentException("topServices must be between 0 and 100");
+        }
+        if (minSeverity < 1 || minSeverity > 5) {
+            throw new IllegalArgumentException("minSeverity must be between 1 and 5");
+        }
+        if (startupTimeout == null || startupTimeout.isNegative() || startupTimeout.isZero()) {
+            throw new IllegalArgumentException("startupTimeout must be greater than zero");
+        }
+    }
+}
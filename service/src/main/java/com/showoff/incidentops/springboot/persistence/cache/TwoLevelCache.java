@@ -0,0 +1,130 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final CacheInvalidationBus bus;
+
+    TwoLevelCache(
+        String name,
+        Cache remote,
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+        CacheInvalidationBus bus
+    ) {
+        super(true);
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.bus = bus;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object storeValue = toStoreValue(wrapper.get());
+        local.put(key, storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) fromStoreValue(local.get(key, ignored -> toStoreValue(loadRemote(key, valueLoader))));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.put(key, toStoreValue(existing != null ? existing.get() : value));
+        return existing;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(key, toStoreValue(value));
+        publishEvict(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key);
+        publishEvict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = remote.evictIfPresent(key);
+        local.invalidate(key);
+        publishEvict(key);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        bus.publish(CacheInvalidation.clear(name));
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = remote.invalidate();
+        local.invalidateAll();
+        bus.publish(CacheInvalidation.clear(name));
+        return present;
+    }
+
+    void evictLocal(Object key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    // Avoids RedisCache#get(key, loader), which serializes loads of different keys behind one lock.
+    private Object loadRemote(Object key, Callable<?> valueLoader) {
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            return wrapper.get();
+        }
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        return existing != null ? existing.get() : value;
+    }
+
+    // Peers only drop their local copies, so a key that cannot be sent as text clears the local tier instead.
+    private void publishEvict(Object key) {
+        bus.publish(key instanceof String text ? CacheInvalidation.evict(name, text) : CacheInvalidation.clear(name));
+    }
+}
@@ -0,0 +1,91 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TwoLevelCacheManager implements CacheManager {
+    private final CacheManager remote;
+    private final NearCacheProperties properties;
+    private final IncidentOpsProperties.CacheLimits limits;
+    private final Set<String> nearCacheNames;
+    private final CacheInvalidationBus bus;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+        CacheManager remote,
+        NearCacheProperties properties,
+        IncidentOpsProperties.CacheLimits limits,
+        CacheInvalidationBus bus
+    ) {
+        this(remote, properties, limits, bus, new SimpleMeterRegistry());
+    }
+
+    public TwoLevelCacheManager(
+        CacheManager remote,
+        NearCacheProperties properties,
+        IncidentOpsProperties.CacheLimits limits,
+        CacheInvalidationBus bus,
+        MeterRegistry meterRegistry
+    ) {
+        this.remote = remote;
+        this.properties = properties;
+        this.limits = limits;
+        this.nearCacheNames = Set.copyOf(properties.cacheNames());
+        this.bus = bus;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(
+            name,
+            ignored -> nearCacheNames.contains(name) ? new TwoLevelCache(name, remoteCache, newLocalCache(name), bus) : remoteCache
+        );
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    void apply(CacheInvalidation invalidation) {
+        if (!(caches.get(invalidation.cacheName()) instanceof TwoLevelCache cache)) {
+            return;
+        }
+        if (invalidation.kind() == CacheInvalidation.Kind.EVICT) {
+            cache.evictLocal(invalidation.value());
+        } else if (invalidation.kind() == CacheInvalidation.Kind.CLEAR) {
+            cache.clearLocal();
+        }
+    }
+
+    // The local tier never holds more, or longer, than the cache's own limit allows.
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> newLocalCache(String name) {
+        IncidentOpsProperties.CacheLimits.Limit limit = limits.limitFor(name);
+        Duration expireAfterWrite = properties.expireAfterWrite();
+        return Caffeine.newBuilder()
+            .maximumSize(Math.min(properties.maximumSize(), limit.maxEntries()))
+            .expireAfterWrite(expireAfterWrite.compareTo(limit.ttl()) <= 0 ? expireAfterWrite : limit.ttl())
+            .evictionListener(CacheStatistics.evictionListener(meterRegistry, name, CacheStatistics.NEAR_CACHE_BACKEND))
+            .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.showoff.incidentops.springboot.persistence.exception;
+
+public class IncidentTicketTransitionException extends RuntimeException {
+    public IncidentTicketTransitionException(String message) {
+        super(message);
+    }
+}
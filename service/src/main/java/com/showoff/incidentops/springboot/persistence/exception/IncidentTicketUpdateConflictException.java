@@ -0,0 +1,7 @@
+package com.showoff.incidentops.springboot.persistence.exception;
+
+public class IncidentTicketUpdateConflictException extends RuntimeException {
+    public IncidentTicketUpdateConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.showoff.incidentops.springboot.persistence.exception;
+
+public class IncidentTicketVersionConflictException extends RuntimeException {
+    public IncidentTicketVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,7 @@ package com.showoff.incidentops.springboot.persistence.mapper;
 import com.showoff.incidentops.springboot.persistence.dto.CreateIncidentTicketRequest;
 import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
 import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import com.showoff.incidentops.springboot.persistence.entity.TicketStatus;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,7 +18,7 @@ public class IncidentTicketMapper {
             request.serviceId().trim().toLowerCase(),
             request.severity(),
             request.summary().trim(),
-            "OPEN"
+            TicketStatus.OPEN.name()
         );
     }
 
@@ -30,7 +31,8 @@ public class IncidentTicketMapper {
             entity.getServiceId(),
             entity.getSeverity(),
             entity.getSummary(),
-            entity.getStatus()
+            entity.getStatus(),
+            entity.getVersion()
         );
     }
 
@@ -1,12 +1,21 @@
 package com.showoff.incidentops.springboot.persistence.service;
 
+import com.showoff.incidentops.springboot.persistence.dto.BatchCreateIncidentTicketsResponse;
+import com.showoff.incidentops.springboot.persistence.dto.BulkUpdateIncidentTicketStatusRequest;
+import com.showoff.incidentops.springboot.persistence.dto.BulkUpdateIncidentTicketStatusResponse;
 import com.showoff.incidentops.springboot.persistence.dto.CreateIncidentTicketRequest;
 import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
 
+import java.util.List;
+
 public interface IncidentTicketCommandService {
     IncidentTicketResponse create(CreateIncidentTicketRequest request);
 
-    IncidentTicketResponse updateStatus(String ticketId, String status);
+    BatchCreateIncidentTicketsResponse createAll(List<CreateIncidentTicketRequest> requests);
+
+    IncidentTicketResponse updateStatus(String ticketId, String status, Long expectedVersion);
+
+    BulkUpdateIncidentTicketStatusResponse updateStatuses(BulkUpdateIncidentTicketStatusRequest request);
 
     void createAndFailForRollback(CreateIncidentTicketRequest request);
 }
@@ -1,12 +1,46 @@
 package com.showoff.incidentops.springboot.persistence.service;
 
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketPageResponse;
 import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketSliceResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusDuration;
+import com.showoff.incidentops.springboot.persistence.dto.TicketTransitionResponse;
 import org.springframework.data.domain.Page;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
 public interface IncidentTicketQueryService {
     IncidentTicketResponse getByTicketId(String ticketId);
 
     Page<IncidentTicketResponse> listByStatus(String status, int page, int size);
 
+    IncidentTicketPageResponse listByStatus(String status, int page, int size, TicketCountMode countMode);
+
+    IncidentTicketPageResponse listRecentByStatus(String status, int days, int page, int size);
+
     Page<IncidentTicketResponse> searchByServiceAndMinSeverity(String serviceId, int minSeverity, int page, int size);
+
+    IncidentTicketSliceResponse listByStatusAfter(String status, String cursor, int size);
+
+    IncidentTicketSliceResponse searchByServiceAndMinSeverityAfter(
+        String serviceId,
+        int minSeverity,
+        String cursor,
+        int size
+    );
+
+    IncidentTicketSliceResponse searchBySummary(String query, String cursor, int size);
+
+    String resolveStatus(String status);
+
+    long exportByStatus(String status, TicketExportFormat format, OutputStream output) throws IOException;
+
+    TicketStatsResponse getStats(String status);
+
+    List<TicketTransitionResponse> getHistory(String ticketId);
+
+    List<TicketStatusDuration> timeInStatus(List<String> ticketIds);
 }
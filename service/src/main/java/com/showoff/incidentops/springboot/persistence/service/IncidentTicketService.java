@@ -1,89 +1,251 @@
 package com.showoff.incidentops.springboot.persistence.service;
 
 import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import com.showoff.incidentops.springboot.persistence.dto.BatchCreateIncidentTicketResult;
+import com.showoff.incidentops.springboot.persistence.dto.BatchCreateIncidentTicketsResponse;
+import com.showoff.incidentops.springboot.persistence.dto.BulkUpdateIncidentTicketStatusRequest;
+import com.showoff.incidentops.springboot.persistence.dto.BulkUpdateIncidentTicketStatusResponse;
 import com.showoff.incidentops.springboot.persistence.dto.CreateIncidentTicketRequest;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketPageResponse;
 import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketSliceResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsGroup;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusDuration;
+import com.showoff.incidentops.springboot.persistence.dto.TicketTransitionResponse;
 import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import com.showoff.incidentops.springboot.persistence.entity.TicketStatus;
 import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketNotFoundException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketTransitionException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketUpdateConflictException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketVersionConflictException;
 import com.showoff.incidentops.springboot.persistence.mapper.IncidentTicketMapper;
 import com.showoff.incidentops.springboot.persistence.repository.IncidentTicketRepository;
-import org.springframework.cache.annotation.CacheEvict;
+import com.showoff.incidentops.springboot.persistence.repository.IncidentTicketSearchHit;
+import com.showoff.incidentops.springboot.persistence.repository.ServiceDirectory;
+import com.showoff.incidentops.springboot.persistence.repository.TicketOutboxRepository;
+import com.showoff.incidentops.springboot.persistence.repository.TicketTransitionRepository;
+import com.showoff.incidentops.springboot.persistence.repository.TicketTransitionRepository.LockedTicket;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class IncidentTicketService implements IncidentTicketCommandService, IncidentTicketQueryService {
     static final String CACHE_TICKET_BY_ID = "ticketsById";
     static final String CACHE_STATUS_PAGES = "ticketPagesByStatus";
     static final String CACHE_SERVICE_SEARCH_PAGES = "ticketPagesByServiceSeverity";
+    static final String CACHE_STATS_BY_STATUS = "ticketStatsByStatus";
+    static final String ALL_STATUSES = "ALL";
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int MAX_STATUS_UPDATE_ATTEMPTS = 3;
+    static final int MAX_RECENT_DAYS = 90;
+    static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    static final int MAX_TIME_IN_STATUS_TICKETS = 200;
 
     private final IncidentTicketRepository repository;
     private final IncidentTicketMapper mapper;
     private final IncidentOpsProperties properties;
-    private final AtomicInteger sequence = new AtomicInteger(5000);
+    private final TicketIdAllocator ticketIdAllocator;
+    private final TransactionTemplate transactionTemplate;
+    private final TicketStatusCounters statusCounters;
+    private final TicketOutboxRepository outbox;
+    private final TicketTransitionRepository transitions;
+    private final ServiceDirectory serviceDirectory;
+    private final TicketCacheInvalidator cacheInvalidator;
 
     public IncidentTicketService(
         IncidentTicketRepository repository,
         IncidentTicketMapper mapper,
-        IncidentOpsProperties properties
+        IncidentOpsProperties properties,
+        TicketIdAllocator ticketIdAllocator,
+        PlatformTransactionManager transactionManager,
+        TicketStatusCounters statusCounters,
+        TicketOutboxRepository outbox,
+        TicketTransitionRepository transitions,
+        ServiceDirectory serviceDirectory,
+        TicketCacheInvalidator cacheInvalidator
     ) {
         this.repository = repository;
         this.mapper = mapper;
         this.properties = properties;
+        this.ticketIdAllocator = ticketIdAllocator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.statusCounters = statusCounters;
+        this.outbox = outbox;
+        this.transitions = transitions;
+        this.serviceDirectory = serviceDirectory;
+        this.cacheInvalidator = cacheInvalidator;
     }
 
     @Override
     @Transactional
-    @Caching(
-        put = {@CachePut(cacheNames = CACHE_TICKET_BY_ID, key = "#result.ticketId()")},
-        evict = {
-            @CacheEvict(cacheNames = CACHE_STATUS_PAGES, allEntries = true),
-            @CacheEvict(cacheNames = CACHE_SERVICE_SEARCH_PAGES, allEntries = true)
-        }
-    )
+    @CachePut(cacheNames = CACHE_TICKET_BY_ID, key = "#result.ticketId()")
     public IncidentTicketResponse create(CreateIncidentTicketRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("request must not be null");
         }
-        String ticketId = "TKT-" + sequence.incrementAndGet();
-        return mapper.toResponse(repository.save(mapper.toNewEntity(ticketId, request)));
+        serviceDirectory.register(request.serviceId());
+        String ticketId = ticketIdAllocator.nextTicketId();
+        IncidentTicketEntity saved = repository.save(mapper.toNewEntity(ticketId, request));
+        outbox.appendTicketCreated(List.of(saved));
+        transitions.appendCreated(List.of(saved));
+        IncidentTicketResponse response = mapper.toResponse(saved);
+        statusCounters.adjust(response.status(), 1);
+        evictTicketViews(Set.of(response.status()), Set.of(response.serviceId()));
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public BatchCreateIncidentTicketsResponse createAll(List<CreateIncidentTicketRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("requests must not be empty");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("requests must contain <= " + MAX_BATCH_SIZE + " items");
+        }
+        BatchCreateIncidentTicketResult[] results = new BatchCreateIncidentTicketResult[requests.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            String rejection = rejectionReason(requests.get(index));
+            if (rejection == null) {
+                acceptedIndexes.add(index);
+            } else {
+                results[index] = BatchCreateIncidentTicketResult.rejected(index, rejection);
+            }
+        }
+
+        List<String> ticketIds = ticketIdAllocator.nextTicketIds(acceptedIndexes.size());
+        List<IncidentTicketEntity> entities = new ArrayList<>(acceptedIndexes.size());
+        for (int i = 0; i < acceptedIndexes.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            IncidentTicketEntity entity = mapper.toNewEntity(ticketIds.get(i), requests.get(index));
+            entities.add(entity);
+            results[index] = BatchCreateIncidentTicketResult.created(index, entity.getTicketId());
+        }
+        entities.stream().map(IncidentTicketEntity::getServiceId).distinct().forEach(serviceDirectory::register);
+        repository.insertAll(entities);
+        outbox.appendTicketCreated(entities);
+        transitions.appendCreated(entities);
+        Set<String> statuses = new LinkedHashSet<>();
+        Set<String> serviceIds = new LinkedHashSet<>();
+        for (IncidentTicketEntity entity : entities) {
+            statusCounters.adjust(entity.getStatus(), 1);
+            statuses.add(entity.getStatus());
+            serviceIds.add(entity.getServiceId());
+        }
+        evictTicketViews(statuses, serviceIds);
+
+        return new BatchCreateIncidentTicketsResponse(
+            requests.size(),
+            entities.size(),
+            requests.size() - entities.size(),
+            List.of(results)
+        );
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CACHE_TICKET_BY_ID, key = "#p0.trim().toUpperCase()")
+    @Cacheable(cacheNames = CACHE_TICKET_BY_ID, key = "#p0.trim().toUpperCase()", sync = true)
     public IncidentTicketResponse getByTicketId(String ticketId) {
         validateTicketId(ticketId);
-        IncidentTicketEntity entity = repository.findByTicketId(ticketId.trim().toUpperCase())
+        return repository.findResponseByTicketId(ticketId.trim().toUpperCase())
             .orElseThrow(() -> new IncidentTicketNotFoundException(
                 "ticket not found: " + ticketId.trim().toUpperCase()
             ));
-        return mapper.toResponse(entity);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CACHE_STATUS_PAGES, key = "#root.target.statusPageKey(#p0, #p1, #p2)")
+    @Cacheable(cacheNames = CACHE_STATUS_PAGES, key = "#root.target.statusPageKey(#p0, #p1, #p2)", sync = true)
     public Page<IncidentTicketResponse> listByStatus(String status, int page, int size) {
-        String effectiveStatus = normalizeStatusOrDefault(status);
-        validateNonBlank(effectiveStatus, "status");
+        String normalizedStatus = resolveStatus(status);
+        validatePage(page, size);
+        return repository.findResponsesByStatus(normalizedStatus, PageRequest.of(page, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IncidentTicketPageResponse listByStatus(String status, int page, int size, TicketCountMode countMode) {
+        if (countMode == null) {
+            throw new IllegalArgumentException("countMode must not be null");
+        }
+        String normalizedStatus = resolveStatus(status);
         validatePage(page, size);
-        return repository.findByStatusOrderBySeverityDescTicketIdAsc(
-            effectiveStatus.trim().toUpperCase(),
+        PageRequest pageRequest = PageRequest.of(page, size);
+
+        if (countMode == TicketCountMode.EXACT) {
+            Page<IncidentTicketResponse> result = repository.findResponsesByStatus(normalizedStatus, pageRequest);
+            return new IncidentTicketPageResponse(
+                result.getContent(),
+                page,
+                size,
+                result.hasNext(),
+                result.getTotalElements(),
+                countMode.name()
+            );
+        }
+
+        Slice<IncidentTicketResponse> slice = repository.findKeysetByStatus(normalizedStatus, pageRequest);
+        Long total = null;
+        if (countMode == TicketCountMode.ESTIMATE) {
+            long seen = pageRequest.getOffset() + slice.getNumberOfElements();
+            total = slice.hasNext() ? Math.max(seen + 1, statusCounters.estimate(normalizedStatus)) : seen;
+        }
+        return new IncidentTicketPageResponse(slice.getContent(), page, size, slice.hasNext(), total, countMode.name());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IncidentTicketPageResponse listRecentByStatus(String status, int days, int page, int size) {
+        String normalizedStatus = resolveStatus(status);
+        if (days < 1 || days > MAX_RECENT_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + MAX_RECENT_DAYS);
+        }
+        validatePage(page, size);
+        Slice<IncidentTicketResponse> slice = repository.findRecentByStatus(
+            normalizedStatus,
+            Instant.now().minus(Duration.ofDays(days)),
             PageRequest.of(page, size)
-        ).map(mapper::toResponse);
+        );
+        return new IncidentTicketPageResponse(
+            slice.getContent(),
+            page,
+            size,
+            slice.hasNext(),
+            null,
+            TicketCountMode.NONE.name()
+        );
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CACHE_SERVICE_SEARCH_PAGES, key = "#root.target.serviceSearchKey(#p0, #p1, #p2, #p3)")
+    @Cacheable(cacheNames = CACHE_SERVICE_SEARCH_PAGES, key = "#root.target.serviceSearchKey(#p0, #p1, #p2, #p3)", sync = true)
     public Page<IncidentTicketResponse> searchByServiceAndMinSeverity(
         String serviceId,
         int minSeverity,
@@ -91,35 +253,267 @@ public class IncidentTicketService implements IncidentTicketCommandService, Inci
         int size
     ) {
         validateNonBlank(serviceId, "serviceId");
-        if (minSeverity < 1 || minSeverity > 5) {
-            throw new IllegalArgumentException("minSeverity must be between 1 and 5");
-        }
+        validateMinSeverity(minSeverity);
         validatePage(page, size);
-        return repository.findByServiceAndMinSeverity(
+        if (!isKnownService(serviceId)) {
+            return Page.empty(PageRequest.of(page, size));
+        }
+        return repository.findResponsesByServiceAndMinSeverity(serviceId.trim(), minSeverity, PageRequest.of(page, size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IncidentTicketSliceResponse listByStatusAfter(String status, String cursor, int size) {
+        String normalizedStatus = resolveStatus(status);
+        validateSize(size);
+        PageRequest limit = PageRequest.of(0, size);
+        if (cursor == null || cursor.isBlank()) {
+            return toSliceResponse(repository.findKeysetByStatus(normalizedStatus, limit));
+        }
+        TicketCursor after = TicketCursor.decode(cursor);
+        return toSliceResponse(repository.findKeysetByStatusAfter(
+            normalizedStatus,
+            after.severity(),
+            after.ticketId(),
+            limit
+        ));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IncidentTicketSliceResponse searchByServiceAndMinSeverityAfter(
+        String serviceId,
+        int minSeverity,
+        String cursor,
+        int size
+    ) {
+        validateNonBlank(serviceId, "serviceId");
+        validateMinSeverity(minSeverity);
+        validateSize(size);
+        if (!isKnownService(serviceId)) {
+            return new IncidentTicketSliceResponse(List.of(), 0, false, null);
+        }
+        PageRequest limit = PageRequest.of(0, size);
+        if (cursor == null || cursor.isBlank()) {
+            return toSliceResponse(repository.findKeysetByServiceAndMinSeverity(serviceId.trim(), minSeverity, limit));
+        }
+        TicketCursor after = TicketCursor.decode(cursor);
+        return toSliceResponse(repository.findKeysetByServiceAndMinSeverityAfter(
             serviceId.trim(),
             minSeverity,
-            PageRequest.of(page, size)
-        ).map(mapper::toResponse);
+            after.severity(),
+            after.ticketId(),
+            limit
+        ));
     }
 
     @Override
-    @Transactional
-    @Caching(
-        put = {@CachePut(cacheNames = CACHE_TICKET_BY_ID, key = "#result.ticketId()")},
-        evict = {
-            @CacheEvict(cacheNames = CACHE_STATUS_PAGES, allEntries = true),
-            @CacheEvict(cacheNames = CACHE_SERVICE_SEARCH_PAGES, allEntries = true)
-        }
-    )
-    public IncidentTicketResponse updateStatus(String ticketId, String status) {
+    @Transactional(readOnly = true)
+    public List<TicketTransitionResponse> getHistory(String ticketId) {
         validateTicketId(ticketId);
-        validateNonBlank(status, "status");
-        IncidentTicketEntity entity = repository.findByTicketId(ticketId.trim().toUpperCase())
-            .orElseThrow(() -> new IncidentTicketNotFoundException(
-                "ticket not found: " + ticketId.trim().toUpperCase()
-            ));
-        entity.setStatus(status.trim().toUpperCase());
-        return mapper.toResponse(repository.save(entity));
+        String normalizedTicketId = ticketId.trim().toUpperCase();
+        List<TicketTransitionResponse> history = transitions.findByTicketId(normalizedTicketId);
+        if (history.isEmpty() && repository.findResponseByTicketId(normalizedTicketId).isEmpty()) {
+            throw new IncidentTicketNotFoundException("ticket not found: " + normalizedTicketId);
+        }
+        return history;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TicketStatusDuration> timeInStatus(List<String> ticketIds) {
+        if (ticketIds == null || ticketIds.isEmpty()) {
+            throw new IllegalArgumentException("ticketIds must not be empty");
+        }
+        if (ticketIds.size() > MAX_TIME_IN_STATUS_TICKETS) {
+            throw new IllegalArgumentException("ticketIds must contain <= " + MAX_TIME_IN_STATUS_TICKETS + " items");
+        }
+        Set<String> normalizedTicketIds = new LinkedHashSet<>();
+        for (String ticketId : ticketIds) {
+            validateTicketId(ticketId);
+            normalizedTicketIds.add(ticketId.trim().toUpperCase());
+        }
+        return transitions.timeInStatus(normalizedTicketIds, Instant.now());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CACHE_STATS_BY_STATUS, key = "#root.target.statsKey(#p0)", sync = true)
+    public TicketStatsResponse getStats(String status) {
+        String key = statsKey(status);
+        if (!ALL_STATUSES.equals(key)) {
+            TicketStatus.parse(key);
+        }
+        List<TicketStatsGroup> groups = (ALL_STATUSES.equals(key)
+            ? repository.countGroupedByServiceSeverityStatus()
+            : repository.countGroupedByServiceSeverityForStatus(key))
+            .stream()
+            .sorted(Comparator.comparing(TicketStatsGroup::serviceId))
+            .toList();
+        long total = groups.stream().mapToLong(TicketStatsGroup::count).sum();
+        return new TicketStatsResponse(key, total, groups);
+    }
+
+    @Override
+    public String resolveStatus(String status) {
+        return TicketStatus.parse(normalizeStatusOrDefault(status)).name();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportByStatus(String status, TicketExportFormat format, OutputStream output) throws IOException {
+        String normalizedStatus = resolveStatus(status);
+        if (format == null) {
+            throw new IllegalArgumentException("format must not be null");
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        long exported = 0;
+        format.writeHeader(writer);
+        try (Stream<IncidentTicketResponse> rows = repository.streamResponsesByStatus(normalizedStatus)) {
+            Iterator<IncidentTicketResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                format.writeRow(writer, iterator.next());
+                exported++;
+            }
+        }
+        writer.flush();
+        return exported;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IncidentTicketSliceResponse searchBySummary(String query, String cursor, int size) {
+        validateNonBlank(query, "q");
+        if (query.trim().length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q must be <= " + MAX_SEARCH_QUERY_LENGTH + " chars");
+        }
+        validateSize(size);
+        TicketSearchCursor after = cursor == null || cursor.isBlank() ? null : TicketSearchCursor.decode(cursor);
+        List<IncidentTicketSearchHit> hits = repository.searchBySummary(
+            query.trim(),
+            after == null ? null : after.rank(),
+            after == null ? null : after.ticketId(),
+            size + 1
+        );
+        boolean hasNext = hits.size() > size;
+        List<IncidentTicketSearchHit> page = hasNext ? hits.subList(0, size) : hits;
+        String nextCursor = null;
+        if (hasNext) {
+            IncidentTicketSearchHit last = page.get(page.size() - 1);
+            nextCursor = new TicketSearchCursor(last.rank(), last.ticket().ticketId()).encode();
+        }
+        return new IncidentTicketSliceResponse(
+            page.stream().map(IncidentTicketSearchHit::ticket).toList(),
+            page.size(),
+            hasNext,
+            nextCursor
+        );
+    }
+
+    @Override
+    @CachePut(cacheNames = CACHE_TICKET_BY_ID, key = "#result.ticketId()")
+    public IncidentTicketResponse updateStatus(String ticketId, String status, Long expectedVersion) {
+        validateTicketId(ticketId);
+        TicketStatus targetStatus = TicketStatus.parse(status);
+        if (expectedVersion != null && expectedVersion < 0) {
+            throw new IllegalArgumentException("expectedVersion must be >= 0");
+        }
+        String normalizedTicketId = ticketId.trim().toUpperCase();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                StatusChange change = transactionTemplate.execute(
+                    transaction -> applyStatus(normalizedTicketId, targetStatus, expectedVersion)
+                );
+                if (!change.previousStatus().equals(change.ticket().status())) {
+                    statusCounters.adjust(change.previousStatus(), -1);
+                    statusCounters.adjust(change.ticket().status(), 1);
+                    evictTicketViews(
+                        Set.of(change.previousStatus(), change.ticket().status()),
+                        Set.of(change.ticket().serviceId())
+                    );
+                }
+                return change.ticket();
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt >= MAX_STATUS_UPDATE_ATTEMPTS) {
+                    String message = "ticket " + normalizedTicketId + " is being updated concurrently, retry later";
+                    // Only a failed If-Match is a precondition failure; without one the caller just lost the race.
+                    throw expectedVersion == null
+                        ? new IncidentTicketUpdateConflictException(message)
+                        : new IncidentTicketVersionConflictException(message);
+                }
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public BulkUpdateIncidentTicketStatusResponse updateStatuses(BulkUpdateIncidentTicketStatusRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("request must not be null");
+        }
+        TicketStatus targetStatus = TicketStatus.parse(request.status());
+        String normalizedStatus = targetStatus.name();
+        boolean byTicketIds = request.ticketIds() != null && !request.ticketIds().isEmpty();
+        boolean byFilter = request.serviceId() != null && !request.serviceId().isBlank();
+        if (byTicketIds == byFilter) {
+            throw new IllegalArgumentException("exactly one of ticketIds or serviceId must be provided");
+        }
+
+        if (byTicketIds) {
+            if (request.ticketIds().size() > MAX_BATCH_SIZE) {
+                throw new IllegalArgumentException("ticketIds must contain <= " + MAX_BATCH_SIZE + " items");
+            }
+            Set<String> ticketIds = new LinkedHashSet<>();
+            for (String ticketId : request.ticketIds()) {
+                validateTicketId(ticketId);
+                ticketIds.add(ticketId.trim().toUpperCase());
+            }
+            List<String> sourceStatuses = targetStatus.sources().stream().map(TicketStatus::name).toList();
+            if (sourceStatuses.isEmpty()) {
+                throw new IncidentTicketTransitionException("no ticket can transition to " + normalizedStatus);
+            }
+            statusCounters.invalidate();
+            List<LockedTicket> locked = transitions.lockByTicketIds(ticketIds, sourceStatuses);
+            int updated = updateLocked(locked, sourceStatuses, normalizedStatus);
+            if (updated > 0) {
+                Set<String> statuses = new LinkedHashSet<>();
+                locked.forEach(ticket -> statuses.add(ticket.status()));
+                statuses.add(normalizedStatus);
+                evictChanged(locked, statuses);
+            }
+            return new BulkUpdateIncidentTicketStatusResponse(updated, normalizedStatus);
+        }
+
+        validateNonBlank(request.currentStatus(), "currentStatus");
+        String serviceId = request.serviceId().trim();
+        TicketStatus sourceStatus = TicketStatus.parse(request.currentStatus());
+        String currentStatus = sourceStatus.name();
+        if (sourceStatus == targetStatus) {
+            return new BulkUpdateIncidentTicketStatusResponse(0, normalizedStatus);
+        }
+        if (!sourceStatus.canTransitionTo(targetStatus)) {
+            throw new IncidentTicketTransitionException(
+                "tickets cannot transition from " + currentStatus + " to " + normalizedStatus
+            );
+        }
+        if (!isKnownService(serviceId)) {
+            return new BulkUpdateIncidentTicketStatusResponse(0, normalizedStatus);
+        }
+        statusCounters.invalidate();
+        // PostgreSQL updates and records the set in one statement; H2 cannot modify rows inside a CTE.
+        List<LockedTicket> changed;
+        int updated;
+        if (transitions.supportsSetBasedMoves()) {
+            changed = transitions.moveByServiceAndStatus(serviceId, currentStatus, normalizedStatus);
+            updated = changed.size();
+        } else {
+            changed = transitions.lockByServiceAndStatus(serviceId, currentStatus);
+            updated = updateLocked(changed, List.of(currentStatus), normalizedStatus);
+        }
+        if (updated > 0) {
+            evictChanged(changed, Set.of(currentStatus, normalizedStatus));
+        }
+        return new BulkUpdateIncidentTicketStatusResponse(updated, normalizedStatus);
     }
 
     @Override
@@ -132,16 +526,120 @@ public class IncidentTicketService implements IncidentTicketCommandService, Inci
         throw new IllegalStateException("simulated failure after create");
     }
 
+    private int updateLocked(List<LockedTicket> locked, List<String> sourceStatuses, String status) {
+        if (locked.isEmpty()) {
+            return 0;
+        }
+        List<String> ticketIds = locked.stream().map(LockedTicket::ticketId).toList();
+        int updated = 0;
+        for (int from = 0; from < ticketIds.size(); from += MAX_BATCH_SIZE) {
+            List<String> chunk = ticketIds.subList(from, Math.min(from + MAX_BATCH_SIZE, ticketIds.size()));
+            updated += repository.updateStatusByTicketIds(chunk, sourceStatuses, status);
+        }
+        transitions.appendBulk(locked, status);
+        return updated;
+    }
+
+    private StatusChange applyStatus(String ticketId, TicketStatus status, Long expectedVersion) {
+        IncidentTicketEntity entity = repository.findByTicketId(ticketId)
+            .orElseThrow(() -> new IncidentTicketNotFoundException("ticket not found: " + ticketId));
+        if (expectedVersion != null && entity.getVersion() != expectedVersion) {
+            throw new IncidentTicketVersionConflictException(
+                "ticket " + ticketId + " is at version " + entity.getVersion() + ", expected " + expectedVersion
+            );
+        }
+        String previousStatus = entity.getStatus();
+        TicketStatus current = TicketStatus.parse(previousStatus);
+        if (current == status) {
+            return new StatusChange(previousStatus, mapper.toResponse(entity));
+        }
+        if (!current.canTransitionTo(status)) {
+            throw new IncidentTicketTransitionException(
+                "ticket " + ticketId + " cannot transition from " + current.name() + " to " + status.name()
+            );
+        }
+        entity.setStatus(status.name());
+        IncidentTicketResponse ticket = mapper.toResponse(repository.saveAndFlush(entity));
+        transitions.append(ticket.ticketId(), previousStatus, ticket.status(), ticket.version());
+        return new StatusChange(previousStatus, ticket);
+    }
+
     private static void validateTicketId(String ticketId) {
         if (ticketId == null || ticketId.isBlank()) {
             throw new IllegalArgumentException("ticketId must not be blank");
         }
     }
 
+    private static String rejectionReason(CreateIncidentTicketRequest request) {
+        if (request == null) {
+            return "ticket must not be null";
+        }
+        if (request.serviceId() == null || request.serviceId().isBlank()) {
+            return "serviceId must not be blank";
+        }
+        if (request.serviceId().trim().length() > 64) {
+            return "serviceId must be <= 64 chars";
+        }
+        if (request.severity() < 1 || request.severity() > 5) {
+            return "severity must be between 1 and 5";
+        }
+        if (request.summary() == null || request.summary().isBlank()) {
+            return "summary must not be blank";
+        }
+        if (request.summary().trim().length() > 255) {
+            return "summary must be <= 255 chars";
+        }
+        return null;
+    }
+
+    private static IncidentTicketSliceResponse toSliceResponse(Slice<IncidentTicketResponse> slice) {
+        List<IncidentTicketResponse> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+            ? TicketCursor.after(content.get(content.size() - 1)).encode()
+            : null;
+        return new IncidentTicketSliceResponse(content, content.size(), slice.hasNext(), nextCursor);
+    }
+
+    private void evictTicketViews(Set<String> statuses, Set<String> serviceIds) {
+        cacheInvalidator.evictTagged(CACHE_STATUS_PAGES, statuses);
+        cacheInvalidator.evictTagged(
+            CACHE_SERVICE_SEARCH_PAGES,
+            serviceIds.stream().map(IncidentTicketService::serviceTag).toList()
+        );
+        evictStats(statuses);
+    }
+
+    private void evictChanged(List<LockedTicket> changed, Set<String> statuses) {
+        Set<String> serviceIds = new LinkedHashSet<>();
+        changed.forEach(ticket -> serviceIds.add(ticket.serviceId()));
+        cacheInvalidator.evict(CACHE_TICKET_BY_ID, changed.stream().map(LockedTicket::ticketId).toList());
+        evictTicketViews(statuses, serviceIds);
+    }
+
+    private void evictStats(Set<String> statuses) {
+        List<String> keys = new ArrayList<>(statuses);
+        keys.add(ALL_STATUSES);
+        cacheInvalidator.evict(CACHE_STATS_BY_STATUS, keys);
+    }
+
+    private boolean isKnownService(String serviceId) {
+        return serviceDirectory.findId(serviceId).isPresent();
+    }
+
+    private static void validateMinSeverity(int minSeverity) {
+        if (minSeverity < 1 || minSeverity > 5) {
+            throw new IllegalArgumentException("minSeverity must be between 1 and 5");
+        }
+    }
+
     private void validatePage(int page, int size) {
         if (page < 0) {
             throw new IllegalArgumentException("page must be >= 0");
         }
+        validateSize(size);
+    }
+
+    private void validateSize(int size) {
         int maxPageSize = properties.tickets().maxPageSize();
         if (size <= 0 || size > maxPageSize) {
             throw new IllegalArgumentException("size must be between 1 and " + maxPageSize);
@@ -163,11 +661,26 @@ public class IncidentTicketService implements IncidentTicketCommandService, Inci
 
     String statusPageKey(String status, int page, int size) {
         String effectiveStatus = normalizeStatusOrDefault(status).trim().toUpperCase();
-        return effectiveStatus + ":" + page + ":" + size;
+        String prefix = TicketStatus.isKnown(effectiveStatus)
+            ? cacheInvalidator.versionedTag(CACHE_STATUS_PAGES, effectiveStatus)
+            : effectiveStatus;
+        return prefix + ":" + page + ":" + size;
+    }
+
+    String statsKey(String status) {
+        return status == null || status.isBlank() ? ALL_STATUSES : status.trim().toUpperCase();
     }
 
     String serviceSearchKey(String serviceId, int minSeverity, int page, int size) {
-        String normalizedService = serviceId == null ? "null" : serviceId.trim().toLowerCase();
-        return normalizedService + ":" + minSeverity + ":" + page + ":" + size;
+        String prefix = serviceId == null
+            ? "null"
+            : cacheInvalidator.versionedTag(CACHE_SERVICE_SEARCH_PAGES, serviceTag(serviceId));
+        return prefix + ":" + minSeverity + ":" + page + ":" + size;
+    }
+
+    private static String serviceTag(String serviceId) {
+        return serviceId.trim().toLowerCase();
     }
+
+    private record StatusChange(String previousStatus, IncidentTicketResponse ticket) {}
 }
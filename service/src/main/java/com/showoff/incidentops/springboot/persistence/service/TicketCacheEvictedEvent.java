@@ -0,0 +1,13 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import java.util.List;
+
+public record TicketCacheEvictedEvent(String cacheName, List<String> tags) {
+    public TicketCacheEvictedEvent {
+        tags = tags == null ? List.of() : List.copyOf(tags);
+    }
+
+    public boolean cleared() {
+        return tags.isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.showoff.incidentops.springboot.persistence.cache.CacheTagGenerations;
+import com.showoff.incidentops.springboot.persistence.cache.LocalCacheTagGenerations;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class TicketCacheInvalidator {
+    private final CacheManager cacheManager;
+    private final CacheTagGenerations generations;
+    private final ApplicationEventPublisher events;
+
+    public TicketCacheInvalidator(
+        CacheManager cacheManager,
+        Optional<CacheTagGenerations> generations,
+        ApplicationEventPublisher events
+    ) {
+        this.cacheManager = cacheManager;
+        this.generations = generations.orElseGet(LocalCacheTagGenerations::new);
+        this.events = events;
+    }
+
+    // Page keys embed their tag's generation: a load racing a write stores under a key no reader asks for any more.
+    public String versionedTag(String cacheName, String tag) {
+        return tag + "@" + generations.current(cacheName, tag);
+    }
+
+    public void evictTagged(String cacheName, Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        List<String> snapshot = List.copyOf(tags);
+        afterCommit(() -> {
+            snapshot.forEach(tag -> generations.advance(cacheName, tag));
+            events.publishEvent(new TicketCacheEvictedEvent(cacheName, snapshot));
+        });
+    }
+
+    public void evict(String cacheName, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<?> snapshot = List.copyOf(keys);
+        afterCommit(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                snapshot.forEach(cache::evict);
+            }
+        });
+    }
+
+    public void clear(String cacheName) {
+        afterCommit(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+            events.publishEvent(new TicketCacheEvictedEvent(cacheName, List.of()));
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
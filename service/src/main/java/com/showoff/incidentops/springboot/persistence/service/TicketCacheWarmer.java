@@ -0,0 +1,166 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.showoff.incidentops.springboot.persistence.cache.TicketCacheWarmupProperties;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(prefix = "incidentops.cache.warmup", name = "enabled", havingValue = "true")
+public class TicketCacheWarmer implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(TicketCacheWarmer.class);
+    private static final String ALL_TAGS = "*";
+
+    private final IncidentTicketQueryService queries;
+    private final TicketCacheWarmupProperties properties;
+    private final Executor executor;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private volatile List<String> topServices = List.of();
+
+    public TicketCacheWarmer(
+        IncidentTicketQueryService queries,
+        TicketCacheWarmupProperties properties,
+        @Qualifier("incidentOpsAsyncExecutor") Executor executor
+    ) {
+        this.queries = queries;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    // Application runners finish before readiness flips to ACCEPTING_TRAFFIC, so traffic arrives to warm caches.
+    @Override
+    public void run(ApplicationArguments args) {
+        long deadline = System.nanoTime() + properties.startupTimeout().toNanos();
+        int pages = warmStatuses(properties.statuses(), deadline);
+        topServices = findTopServices();
+        pages += warmServices(topServices, deadline);
+        log.info("ticket_cache_warmup pages={} topServices={}", pages, topServices);
+    }
+
+    @EventListener
+    public void onEviction(TicketCacheEvictedEvent event) {
+        if (IncidentTicketService.CACHE_STATUS_PAGES.equals(event.cacheName())) {
+            List<String> statuses = event.cleared()
+                ? properties.statuses()
+                : matching(properties.statuses(), event.tags());
+            for (String status : statuses) {
+                schedule(event.cacheName(), status, () -> warmStatuses(List.of(status), Long.MAX_VALUE));
+            }
+        } else if (IncidentTicketService.CACHE_SERVICE_SEARCH_PAGES.equals(event.cacheName())) {
+            if (event.cleared()) {
+                schedule(event.cacheName(), ALL_TAGS, () -> {
+                    topServices = findTopServices();
+                    warmServices(topServices, Long.MAX_VALUE);
+                });
+                return;
+            }
+            for (String serviceId : matching(topServices, event.tags())) {
+                schedule(event.cacheName(), serviceId, () -> warmServices(List.of(serviceId), Long.MAX_VALUE));
+            }
+        }
+    }
+
+    // One pending refresh per key absorbs bursts of writes; it is released before running so later writes re-warm.
+    private void schedule(String cacheName, String tag, Runnable warmUp) {
+        String key = cacheName + ":" + tag;
+        if (!pending.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                pending.remove(key);
+                warmUp.run();
+            });
+        } catch (RejectedExecutionException ex) {
+            pending.remove(key);
+            log.warn("ticket_cache_warmup_rejected cache={} tag={}", cacheName, tag);
+        }
+    }
+
+    private int warmStatuses(Collection<String> statuses, long deadline) {
+        int warmed = 0;
+        for (String status : statuses) {
+            warmed += warmPages("status " + status, deadline, page -> queries.listByStatus(status, page, properties.pageSize()));
+        }
+        return warmed;
+    }
+
+    private int warmServices(Collection<String> serviceIds, long deadline) {
+        int warmed = 0;
+        for (String serviceId : serviceIds) {
+            warmed += warmPages(
+                "service " + serviceId,
+                deadline,
+                page -> queries.searchByServiceAndMinSeverity(serviceId, properties.minSeverity(), page, properties.pageSize())
+            );
+        }
+        return warmed;
+    }
+
+    private int warmPages(String target, long deadline, IntFunction<Page<IncidentTicketResponse>> loader) {
+        int warmed = 0;
+        try {
+            for (int page = 0; page < properties.pages() && System.nanoTime() < deadline; page++) {
+                Page<IncidentTicketResponse> result = loader.apply(page);
+                warmed++;
+                if (!result.hasNext()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("ticket_cache_warmup_failed target={} reason={}", target, ex.getMessage());
+        }
+        return warmed;
+    }
+
+    private List<String> findTopServices() {
+        if (properties.topServices() == 0) {
+            return List.of();
+        }
+        try {
+            Map<String, Long> countsByService = queries.getStats(null).groups().stream()
+                .filter(group -> group.severity() >= properties.minSeverity())
+                .filter(group -> properties.statuses().isEmpty() || containsIgnoreCase(properties.statuses(), group.status()))
+                .collect(Collectors.groupingBy(
+                    TicketStatsGroup::serviceId,
+                    Collectors.summingLong(TicketStatsGroup::count)
+                ));
+            return countsByService.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()))
+                .limit(properties.topServices())
+                .map(Map.Entry::getKey)
+                .toList();
+        } catch (RuntimeException ex) {
+            log.warn("ticket_cache_warmup_failed target=top-services reason={}", ex.getMessage());
+            return topServices;
+        }
+    }
+
+    private static List<String> matching(List<String> configured, List<String> tags) {
+        return configured.stream().filter(value -> containsIgnoreCase(tags, value)).toList();
+    }
+
+    private static boolean containsIgnoreCase(List<String> values, String candidate) {
+        return values.stream().anyMatch(value -> value.equalsIgnoreCase(candidate));
+    }
+}
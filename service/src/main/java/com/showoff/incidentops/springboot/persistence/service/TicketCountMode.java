@@ -0,0 +1,20 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import java.util.Locale;
+
+public enum TicketCountMode {
+    EXACT,
+    ESTIMATE,
+    NONE;
+
+    public static TicketCountMode parse(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("countMode must be one of exact, estimate, none");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record TicketCursor(int severity, String ticketId) {
+    private static final String SEPARATOR = ":";
+
+    public TicketCursor {
+        if (severity < 1 || severity > 5) {
+            throw new IllegalArgumentException("cursor severity must be between 1 and 5");
+        }
+        if (ticketId == null || ticketId.isBlank()) {
+            throw new IllegalArgumentException("cursor ticketId must not be blank");
+        }
+    }
+
+    public static TicketCursor after(IncidentTicketResponse last) {
+        if (last == null) {
+            throw new IllegalArgumentException("last must not be null");
+        }
+        return new TicketCursor(last.severity(), last.ticketId());
+    }
+
+    public static TicketCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("cursor must not be blank");
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("cursor is invalid");
+            }
+            return new TicketCursor(
+                Integer.parseInt(decoded.substring(0, separatorIndex)),
+                decoded.substring(separatorIndex + 1)
+            );
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("cursor is invalid", ex);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((severity + SEPARATOR + ticketId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,109 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+public enum TicketExportFormat {
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        void writeHeader(Writer writer) {
+        }
+
+        @Override
+        void writeRow(Writer writer, IncidentTicketResponse ticket) throws IOException {
+            try (JsonGenerator json = JSON.createGenerator(writer)) {
+                json.writeStartObject();
+                json.writeStringField("ticketId", ticket.ticketId());
+                json.writeStringField("serviceId", ticket.serviceId());
+                json.writeNumberField("severity", ticket.severity());
+                json.writeStringField("summary", ticket.summary());
+                json.writeStringField("status", ticket.status());
+                json.writeNumberField("version", ticket.version());
+                json.writeEndObject();
+            }
+            writer.write('\n');
+        }
+    },
+    CSV("text/csv", "csv") {
+        @Override
+        void writeHeader(Writer writer) throws IOException {
+            writer.write("ticketId,serviceId,severity,summary,status,version\r\n");
+        }
+
+        @Override
+        void writeRow(Writer writer, IncidentTicketResponse ticket) throws IOException {
+            writeCsvField(writer, ticket.ticketId());
+            writer.write(',');
+            writeCsvField(writer, ticket.serviceId());
+            writer.write(',');
+            writer.write(Integer.toString(ticket.severity()));
+            writer.write(',');
+            writeCsvField(writer, ticket.summary());
+            writer.write(',');
+            writeCsvField(writer, ticket.status());
+            writer.write(',');
+            writer.write(Long.toString(ticket.version()));
+            writer.write("\r\n");
+        }
+    };
+
+    // Rows go through the caller's buffered writer, so generators must neither close nor flush it.
+    private static final JsonFactory JSON = JsonFactory.builder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .disable(StreamWriteFeature.FLUSH_PASSED_TO_STREAM)
+        .build();
+
+    private final String contentType;
+    private final String fileExtension;
+
+    TicketExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+
+    public static TicketExportFormat parse(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("format must be one of ndjson, csv");
+        }
+    }
+
+    abstract void writeHeader(Writer writer) throws IOException;
+
+    abstract void writeRow(Writer writer, IncidentTicketResponse ticket) throws IOException;
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0
+            || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0
+            || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
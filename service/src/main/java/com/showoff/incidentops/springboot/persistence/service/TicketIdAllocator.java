@@ -0,0 +1,46 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.showoff.incidentops.springboot.persistence.repository.IncidentTicketRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class TicketIdAllocator {
+    static final String TICKET_PREFIX = "TKT-";
+    // Must match INCREMENT BY of incident_ticket_number_seq: each nextval reserves [value, value + BLOCK_SIZE).
+    static final int BLOCK_SIZE = 50;
+
+    private final IncidentTicketRepository repository;
+    private long nextNumber;
+    private long blockEnd;
+
+    public TicketIdAllocator(IncidentTicketRepository repository) {
+        this.repository = repository;
+    }
+
+    public synchronized String nextTicketId() {
+        return TICKET_PREFIX + allocateNumber();
+    }
+
+    public synchronized List<String> nextTicketIds(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        List<String> ticketIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ticketIds.add(TICKET_PREFIX + allocateNumber());
+        }
+        return ticketIds;
+    }
+
+    private long allocateNumber() {
+        if (nextNumber >= blockEnd) {
+            long blockStart = repository.nextTicketNumberBlock();
+            nextNumber = blockStart;
+            blockEnd = blockStart + BLOCK_SIZE;
+        }
+        return nextNumber++;
+    }
+}
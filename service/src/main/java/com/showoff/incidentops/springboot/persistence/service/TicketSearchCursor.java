@@ -0,0 +1,42 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record TicketSearchCursor(float rank, String ticketId) {
+    private static final String SEPARATOR = ":";
+
+    public TicketSearchCursor {
+        if (!Float.isFinite(rank) || rank < 0) {
+            throw new IllegalArgumentException("cursor rank must be a finite non-negative number");
+        }
+        if (ticketId == null || ticketId.isBlank()) {
+            throw new IllegalArgumentException("cursor ticketId must not be blank");
+        }
+    }
+
+    public static TicketSearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("cursor must not be blank");
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("cursor is invalid");
+            }
+            return new TicketSearchCursor(
+                Float.parseFloat(decoded.substring(0, separatorIndex)),
+                decoded.substring(separatorIndex + 1)
+            );
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("cursor is invalid", ex);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((rank + SEPARATOR + ticketId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,120 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.showoff.incidentops.springboot.config.TicketCountProperties;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusCount;
+import com.showoff.incidentops.springboot.persistence.repository.IncidentTicketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class TicketStatusCounters {
+    private static final Logger log = LoggerFactory.getLogger(TicketStatusCounters.class);
+
+    private final IncidentTicketRepository repository;
+    private final long refreshIntervalNanos;
+    private final Executor reloadExecutor;
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private volatile Map<String, Long> counts;
+    private volatile boolean loaded;
+    private volatile long loadedAtNanos;
+
+    public TicketStatusCounters(
+        IncidentTicketRepository repository,
+        TicketCountProperties properties,
+        @Qualifier("incidentOpsAsyncExecutor") Executor reloadExecutor
+    ) {
+        this.repository = repository;
+        this.refreshIntervalNanos = properties.refreshInterval().toNanos();
+        this.reloadExecutor = reloadExecutor;
+    }
+
+    // Only the first estimate waits for the count query; later ones serve the last snapshot while it reloads.
+    public long estimate(String status) {
+        if (isStale()) {
+            if (counts == null) {
+                loadFirst();
+            } else {
+                scheduleReload();
+            }
+        }
+        return counts.getOrDefault(status, 0L);
+    }
+
+    public void adjust(String status, long delta) {
+        afterCommit(() -> {
+            if (loaded) {
+                counts.compute(status, (key, current) -> Math.max(0L, (current == null ? 0L : current) + delta));
+            }
+        });
+    }
+
+    public void invalidate() {
+        afterCommit(() -> loaded = false);
+    }
+
+    private boolean isStale() {
+        return !loaded || System.nanoTime() - loadedAtNanos >= refreshIntervalNanos;
+    }
+
+    private synchronized void loadFirst() {
+        if (counts == null) {
+            reload();
+        }
+    }
+
+    private void scheduleReload() {
+        if (!reloading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            reloadExecutor.execute(() -> {
+                try {
+                    reload();
+                } catch (RuntimeException ex) {
+                    // Retried after another refresh interval rather than on every estimate.
+                    loadedAtNanos = System.nanoTime();
+                    loaded = true;
+                    log.warn("could not reload ticket status counters, keeping the last snapshot", ex);
+                } finally {
+                    reloading.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            reloading.set(false);
+            log.warn("could not schedule a ticket status counter reload, keeping the last snapshot");
+        }
+    }
+
+    private void reload() {
+        Map<String, Long> reloaded = new ConcurrentHashMap<>();
+        for (TicketStatusCount statusCount : repository.countByStatus()) {
+            reloaded.put(statusCount.status(), statusCount.count());
+        }
+        counts = reloaded;
+        loadedAtNanos = System.nanoTime();
+        loaded = true;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
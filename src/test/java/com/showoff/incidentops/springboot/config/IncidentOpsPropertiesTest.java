@@ -4,7 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Duration;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest(
     classes = com.showoff.incidentops.springboot.IncidentApiApplication.class,
@@ -26,5 +30,47 @@ class IncidentOpsPropertiesTest {
         assertEquals("test-signing-secret", properties.security().signingSecret());
         assertEquals("incident-events-test", properties.messaging().kafka().topic());
         assertEquals("incidentops-test", properties.messaging().kafka().groupId());
+        assertEquals(
+            new IncidentOpsProperties.CacheLimits.Limit(
+                IncidentOpsProperties.CacheLimits.DEFAULT_MAX_ENTRIES,
+                IncidentOpsProperties.CacheLimits.DEFAULT_TTL,
+                null
+            ),
+            properties.cacheLimits().limitFor("ticketsById")
+        );
+        assertEquals(IncidentOpsProperties.Persistence.DEFAULTS, properties.persistence());
+    }
+
+    @Test
+    void cacheLimits_mergePerCacheOverridesOntoDefaults() {
+        IncidentOpsProperties.CacheLimits limits = new IncidentOpsProperties.CacheLimits(
+            new IncidentOpsProperties.CacheLimits.Limit(5_000L, null, null),
+            Map.of(
+                "ticketPagesByServiceSeverity", new IncidentOpsProperties.CacheLimits.Limit(500L, Duration.ofMinutes(2), null),
+                "ticketStatsByStatus", new IncidentOpsProperties.CacheLimits.Limit(null, null, Duration.ofSeconds(30))
+            )
+        );
+
+        assertEquals(
+            new IncidentOpsProperties.CacheLimits.Limit(500L, Duration.ofMinutes(2), null),
+            limits.limitFor("TICKETPAGESBYSERVICESEVERITY")
+        );
+        assertEquals(
+            new IncidentOpsProperties.CacheLimits.Limit(5_000L, Duration.ofMinutes(10), Duration.ofSeconds(30)),
+            limits.limitFor("ticketStatsByStatus")
+        );
+        assertEquals(5_000L, limits.limitFor("ticketsById").maxEntries());
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new IncidentOpsProperties.CacheLimits.Limit(0L, null, null)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new IncidentOpsProperties.CacheLimits(
+                null,
+                Map.of("ticketsById", new IncidentOpsProperties.CacheLimits.Limit(null, null, Duration.ofMinutes(10)))
+            )
+        );
     }
 }
@@ -4,11 +4,16 @@ import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
 import com.showoff.incidentops.springboot.messaging.dto.IncidentCreatedEvent;
 import org.junit.jupiter.api.Test;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class KafkaIncidentEventPublisherTest {
     @Test
@@ -24,12 +29,17 @@ class KafkaIncidentEventPublisherTest {
             new IncidentOpsProperties.Security("key", "secret"),
             new IncidentOpsProperties.Messaging(
                 new IncidentOpsProperties.Messaging.Kafka("incident-events-test", "incidentops-test")
-            )
+            ),
+            new IncidentOpsProperties.CacheLimits(null, null),
+            null
         );
         KafkaIncidentEventPublisher publisher = new KafkaIncidentEventPublisher(template, properties);
         IncidentCreatedEvent event = new IncidentCreatedEvent("INC-1", "payments-api", 4, "2026-02-17T10:00:00Z");
 
-        publisher.publishIncidentCreated(event);
+        CompletableFuture<SendResult<String, IncidentCreatedEvent>> sent = new CompletableFuture<>();
+        when(template.send("incident-events-test", "INC-1", event)).thenReturn(sent);
+
+        assertSame(sent, publisher.publishIncidentCreated(event));
 
         verify(template).send(eq("incident-events-test"), eq("INC-1"), eq(event));
         assertThrows(IllegalArgumentException.class, () -> publisher.publishIncidentCreated(null));
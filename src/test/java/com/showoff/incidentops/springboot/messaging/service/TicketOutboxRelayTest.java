@@ -0,0 +1,118 @@
+package com.showoff.incidentops.springboot.messaging.service;
+
+import com.showoff.incidentops.springboot.config.TicketOutboxProperties;
+import com.showoff.incidentops.springboot.messaging.dto.IncidentCreatedEvent;
+import com.showoff.incidentops.springboot.persistence.repository.TicketOutboxEvent;
+import com.showoff.incidentops.springboot.persistence.repository.TicketOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketOutboxRelayTest {
+    private static final Instant CREATED_AT = Instant.parse("2026-03-01T10:00:00Z");
+
+    @Test
+    void relayBatch_publishesLockedEventsAndDeletesThemAfterAcknowledgement() {
+        TicketOutboxRepository outbox = mock(TicketOutboxRepository.class);
+        IncidentEventPublisher publisher = mock(IncidentEventPublisher.class);
+        when(outbox.lockNextBatch(2)).thenReturn(List.of(
+            new TicketOutboxEvent(11, TicketOutboxRepository.TICKET_CREATED, "TKT-5001", "payments-api", 4, CREATED_AT),
+            new TicketOutboxEvent(12, TicketOutboxRepository.TICKET_CREATED, "TKT-5002", "identity-api", 2, CREATED_AT)
+        ));
+        doReturn(CompletableFuture.completedFuture(null)).when(publisher).publishIncidentCreated(any());
+        TicketOutboxRelay relay = newRelay(outbox, publisher, properties(true, 2));
+
+        assertEquals(2, relay.relayBatch());
+
+        verify(publisher).publishIncidentCreated(
+            new IncidentCreatedEvent("TKT-5001", "payments-api", 4, "2026-03-01T10:00:00Z")
+        );
+        verify(publisher).publishIncidentCreated(
+            new IncidentCreatedEvent("TKT-5002", "identity-api", 2, "2026-03-01T10:00:00Z")
+        );
+        verify(outbox).deleteByIds(List.of(11L, 12L));
+    }
+
+    @Test
+    void relayBatch_keepsEventsWhenPublishFails() {
+        TicketOutboxRepository outbox = mock(TicketOutboxRepository.class);
+        IncidentEventPublisher publisher = mock(IncidentEventPublisher.class);
+        when(outbox.lockNextBatch(2)).thenReturn(List.of(
+            new TicketOutboxEvent(21, TicketOutboxRepository.TICKET_CREATED, "TKT-5003", "payments-api", 4, CREATED_AT)
+        ));
+        doReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+            .when(publisher).publishIncidentCreated(any());
+        TicketOutboxRelay relay = newRelay(outbox, publisher, properties(true, 2));
+
+        assertThrows(IllegalStateException.class, relay::relayBatch);
+        relay.relayScheduled();
+
+        verify(outbox, never()).deleteByIds(anyCollection());
+    }
+
+    @Test
+    void relayBatch_rejectsUnknownEventTypes() {
+        TicketOutboxRepository outbox = mock(TicketOutboxRepository.class);
+        when(outbox.lockNextBatch(2)).thenReturn(List.of(
+            new TicketOutboxEvent(31, "TICKET_ARCHIVED", "TKT-5004", "payments-api", 4, CREATED_AT)
+        ));
+        TicketOutboxRelay relay = newRelay(outbox, mock(IncidentEventPublisher.class), properties(true, 2));
+
+        assertThrows(IllegalStateException.class, relay::relayBatch);
+    }
+
+    @Test
+    void relayScheduled_drainsFullBatchesAndSkipsWhenDisabled() {
+        TicketOutboxRepository outbox = mock(TicketOutboxRepository.class);
+        IncidentEventPublisher publisher = mock(IncidentEventPublisher.class);
+        when(outbox.lockNextBatch(1))
+            .thenReturn(List.of(new TicketOutboxEvent(41, TicketOutboxRepository.TICKET_CREATED, "TKT-5005", "payments-api", 4, CREATED_AT)))
+            .thenReturn(List.of());
+        doReturn(CompletableFuture.completedFuture(null)).when(publisher).publishIncidentCreated(any());
+
+        newRelay(outbox, publisher, properties(true, 1)).relayScheduled();
+        verify(outbox, times(2)).lockNextBatch(1);
+
+        TicketOutboxRepository idle = mock(TicketOutboxRepository.class);
+        newRelay(idle, publisher, properties(false, 1)).relayScheduled();
+        verify(idle, never()).lockNextBatch(anyInt());
+    }
+
+    @Test
+    void properties_validateRelaySettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TicketOutboxProperties(true, Duration.ZERO, 10, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new TicketOutboxProperties(true, null, 10, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new TicketOutboxProperties(true, Duration.ofSeconds(1), 0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new TicketOutboxProperties(true, Duration.ofSeconds(1), 1001, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new TicketOutboxProperties(true, Duration.ofSeconds(1), 10, null));
+        assertThrows(IllegalArgumentException.class, () -> new TicketOutboxProperties(true, Duration.ofSeconds(1), 10, Duration.ZERO));
+    }
+
+    private static TicketOutboxRelay newRelay(
+        TicketOutboxRepository outbox,
+        IncidentEventPublisher publisher,
+        TicketOutboxProperties properties
+    ) {
+        return new TicketOutboxRelay(outbox, publisher, mock(PlatformTransactionManager.class), properties);
+    }
+
+    private static TicketOutboxProperties properties(boolean enabled, int batchSize) {
+        return new TicketOutboxProperties(enabled, Duration.ofSeconds(1), batchSize, Duration.ofSeconds(1));
+    }
+}
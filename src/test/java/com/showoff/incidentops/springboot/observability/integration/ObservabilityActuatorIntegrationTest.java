@@ -22,7 +22,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
     webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
     properties = {
         "spring.main.banner-mode=off",
-        "management.health.redis.enabled=false"
+        "management.health.redis.enabled=false",
+        "management.endpoints.web.exposure.include=health,incidentops-caches"
     }
 )
 class ObservabilityActuatorIntegrationTest {
@@ -51,6 +52,23 @@ class ObservabilityActuatorIntegrationTest {
         assertTrue(meterRegistry.find("incidentops.incident.processing").timer().count() >= 1L);
     }
 
+    @Test
+    void primaryConnectionPoolMetrics_areRegistered() {
+        assertEquals(
+            10.0d,
+            meterRegistry.get("hikaricp.connections.max").tag("pool", "incidentops-primary").gauge().value()
+        );
+    }
+
+    @Test
+    void cacheStatisticsEndpoint_listsTicketCaches() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpGet("/actuator/incidentops-caches");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("["));
+        assertEquals(404, httpGet("/actuator/incidentops-caches/no-such-cache").statusCode());
+    }
+
     private HttpResponse<String> httpGet(String path) throws IOException, InterruptedException {
         HttpRequest request = HttpRequest.newBuilder()
             .uri(URI.create("http://localhost:" + port + path))
@@ -0,0 +1,52 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedConcurrentMapCacheManagerTest {
+    @Test
+    void caches_keepAtMostTheirConfiguredEntries() {
+        IncidentOpsProperties.CacheLimits limits = new IncidentOpsProperties.CacheLimits(
+            null,
+            Map.of("ticketPagesByServiceSeverity", new IncidentOpsProperties.CacheLimits.Limit(2L, null, null))
+        );
+        BoundedConcurrentMapCacheManager manager = new BoundedConcurrentMapCacheManager(limits);
+        Cache pages = manager.getCache("ticketPagesByServiceSeverity");
+
+        for (int i = 0; i < 50; i++) {
+            pages.put("service-" + i + ":1:0:20", "page");
+        }
+
+        Map<?, ?> store = assertInstanceOf(Map.class, pages.getNativeCache());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (store.size() > 2 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(store.size() <= 2);
+        assertEquals("simple", CacheStatistics.backendOf(pages));
+    }
+
+    @Test
+    void entries_expireAfterTheirTtl() throws InterruptedException {
+        IncidentOpsProperties.CacheLimits limits = new IncidentOpsProperties.CacheLimits(
+            new IncidentOpsProperties.CacheLimits.Limit(null, Duration.ofMillis(50), null),
+            null
+        );
+        Cache stats = new BoundedConcurrentMapCacheManager(limits).getCache("ticketStatsByStatus");
+        stats.put("ALL", "stats");
+
+        Thread.sleep(100);
+
+        assertNull(stats.get("ALL"));
+    }
+}
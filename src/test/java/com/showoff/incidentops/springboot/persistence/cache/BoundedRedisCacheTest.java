@@ -0,0 +1,117 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class BoundedRedisCacheTest {
+    private static final String INDEX = "incidentops:v1:ticketPagesByServiceSeverity:index";
+
+    @Test
+    void writesPastMaxEntries_evictTheKeysTheScriptPopped() {
+        ConcurrentMapCache remote = new ConcurrentMapCache("ticketPagesByServiceSeverity");
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.execute(
+            eq(BoundedRedisCache.TRACK_SCRIPT),
+            eq(List.of(INDEX)),
+            eq("newest:1:0:20"),
+            anyString(),
+            eq("300000"),
+            eq("2")
+        )).thenReturn(List.of("oldest:1:0:20"));
+        BoundedRedisCache cache = new BoundedRedisCache(remote, redisTemplate, INDEX, 2, Duration.ofMinutes(5));
+        remote.put("oldest:1:0:20", "oldest page");
+
+        cache.put("newest:1:0:20", "newest page");
+
+        assertNull(remote.get("oldest:1:0:20"));
+        assertNotNull(remote.get("newest:1:0:20"));
+        String script = BoundedRedisCache.TRACK_SCRIPT.getScriptAsString();
+        assertTrue(script.contains("ZADD") && script.contains("ZREMRANGEBYSCORE") && script.contains("ZPOPMIN"));
+        assertTrue(script.contains("PEXPIRE"));
+    }
+
+    @Test
+    void evictAndClear_keepTheIndexInStep() {
+        ConcurrentMapCache remote = new ConcurrentMapCache("ticketsById");
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> index = index(redisTemplate);
+        BoundedRedisCache cache = new BoundedRedisCache(remote, redisTemplate, INDEX, 2, Duration.ofMinutes(5));
+
+        assertEquals("ticket", cache.get("TKT-1", () -> "ticket"));
+        assertEquals("ticket", cache.get("TKT-1", () -> "reloaded"));
+        cache.evict("TKT-1");
+        cache.clear();
+
+        verify(redisTemplate, times(1)).execute(
+            eq(BoundedRedisCache.TRACK_SCRIPT),
+            eq(List.of(INDEX)),
+            eq("TKT-1"),
+            anyString(),
+            anyString(),
+            anyString()
+        );
+        verify(index).remove(INDEX, "TKT-1");
+        verify(redisTemplate).delete(INDEX);
+        assertEquals(
+            "incidentops:v" + TicketCacheValueSerializer.FORMAT_VERSION + ":ticketsById:index",
+            BoundedRedisCacheManager.indexKey("ticketsById")
+        );
+    }
+
+    @Test
+    void nonStringKeys_areRejectedInsteadOfLeftUntracked() {
+        ConcurrentMapCache remote = new ConcurrentMapCache("ticketsById");
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        BoundedRedisCache cache = new BoundedRedisCache(remote, redisTemplate, INDEX, 2, Duration.ofMinutes(5));
+
+        assertThrows(IllegalArgumentException.class, () -> cache.put(42L, "ticket"));
+        assertThrows(IllegalArgumentException.class, () -> cache.putIfAbsent(42L, "ticket"));
+        assertThrows(IllegalArgumentException.class, () -> cache.get(42L, () -> "ticket"));
+
+        assertNull(remote.get(42L));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void size_countsIndexMembersWrittenWithinTheTtl() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> index = index(redisTemplate);
+        when(index.count(eq(INDEX), anyDouble(), eq(Double.POSITIVE_INFINITY))).thenReturn(3L);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlightCache cache = new SingleFlightCache(
+            new BoundedRedisCache(new ConcurrentMapCache("ticketsById"), redisTemplate, INDEX, 2, Duration.ofMinutes(5)),
+            meterRegistry
+        );
+
+        assertEquals(3.0, meterRegistry.get(CacheStatistics.SIZE_METRIC)
+            .tags("cache", "ticketsById", "backend", "redis").gauge().value());
+        assertEquals(3L, cache.statistics().snapshot(10).size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ZSetOperations<String, String> index(StringRedisTemplate redisTemplate) {
+        ZSetOperations<String, String> index = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(index);
+        return index;
+    }
+}
@@ -0,0 +1,149 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.NoOpCache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CacheStatisticsTest {
+    @Test
+    void lookupsLoadsAndEvictions_areMeteredByCacheAndBackend() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("ticketsById"), meterRegistry);
+
+        cache.get("TKT-1", () -> "first");
+        cache.get("TKT-1", () -> "unused");
+        cache.get("TKT-1");
+        cache.get("TKT-2", () -> "second");
+        cache.evict("TKT-2");
+        cache.clear();
+
+        assertEquals(2.0, gets(meterRegistry, "hit"));
+        assertEquals(2.0, gets(meterRegistry, "miss"));
+        assertEquals(2L, meterRegistry.get(CacheStatistics.LOADS_METRIC)
+            .tags("cache", "ticketsById", "backend", "simple").timer().count());
+        assertEquals(2.0, meterRegistry.get(CacheStatistics.EVICTIONS_METRIC)
+            .tags("cache", "ticketsById", "backend", "simple", "cause", "explicit").counter().count());
+        assertEquals(0.0, meterRegistry.get(CacheStatistics.SIZE_METRIC)
+            .tags("cache", "ticketsById", "backend", "simple").gauge().value());
+    }
+
+    @Test
+    void snapshot_reportsHitRatioSizeAndBusiestKeys() {
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("ticketPagesByStatus"), new SimpleMeterRegistry());
+        for (int i = 0; i < 3; i++) {
+            cache.get("OPEN:0:20", () -> "open page");
+        }
+        cache.get("ACK:0:20", () -> "ack page");
+
+        CacheSnapshot snapshot = cache.statistics().snapshot(1);
+
+        assertEquals("simple", snapshot.backend());
+        assertEquals(2L, snapshot.size());
+        assertEquals(2L, snapshot.hits());
+        assertEquals(2L, snapshot.misses());
+        assertEquals(0.5, snapshot.hitRatio());
+        assertEquals(2L, snapshot.loads());
+        assertEquals(List.of(new CacheSnapshot.KeyRequests("OPEN:0:20", 3)), snapshot.topKeys());
+    }
+
+    @Test
+    void trackedKeys_areBoundedAndUnsizedBackendsOmitSize() {
+        SingleFlightCache cache = new SingleFlightCache(new NoOpCache("ticketsById"), new SimpleMeterRegistry());
+        for (int i = 0; i <= CacheStatistics.MAX_TRACKED_KEYS; i++) {
+            cache.get("TKT-" + i);
+        }
+
+        CacheSnapshot snapshot = cache.statistics().snapshot(CacheStatistics.MAX_TRACKED_KEYS + 10);
+
+        assertEquals("none", snapshot.backend());
+        assertNull(snapshot.size());
+        assertEquals(CacheStatistics.MAX_TRACKED_KEYS + 1L, snapshot.misses());
+        assertEquals(CacheStatistics.MAX_TRACKED_KEYS, snapshot.topKeys().size());
+    }
+
+    @Test
+    void trackedKeys_makeRoomForKeysThatBecomeHot() {
+        SingleFlightCache cache = new SingleFlightCache(new NoOpCache("ticketsById"), new SimpleMeterRegistry());
+        for (int i = 0; i < CacheStatistics.MAX_TRACKED_KEYS; i++) {
+            cache.get("TKT-" + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            cache.get("TKT-HOT");
+        }
+
+        CacheSnapshot snapshot = cache.statistics().snapshot(1);
+
+        assertEquals(List.of(new CacheSnapshot.KeyRequests("TKT-HOT", 5)), snapshot.topKeys());
+    }
+
+    @Test
+    void localTierEvictions_areMeteredByCauseAndIncludedInTheSnapshot() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        IncidentOpsProperties.CacheLimits limits = new IncidentOpsProperties.CacheLimits(
+            null,
+            Map.of("ticketPagesByStatus", new IncidentOpsProperties.CacheLimits.Limit(2L, null, null))
+        );
+        SingleFlightCacheManager cacheManager = new SingleFlightCacheManager(
+            new BoundedConcurrentMapCacheManager(limits, meterRegistry),
+            meterRegistry,
+            limits
+        );
+        SingleFlightCache pages = (SingleFlightCache) cacheManager.getCache("ticketPagesByStatus");
+
+        pages.put("ACK@0:0:20", "page");
+        pages.evict("ACK@0:0:20");
+        for (int i = 0; i < 10; i++) {
+            pages.put("OPEN@0:" + i + ":20", "page");
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sizeEvictions(meterRegistry) < 8 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(8.0, sizeEvictions(meterRegistry));
+        assertEquals(1.0, meterRegistry.get(CacheStatistics.EVICTIONS_METRIC)
+            .tags("cache", "ticketPagesByStatus", "backend", "simple", "cause", "explicit").counter().count());
+        assertEquals(9L, pages.statistics().snapshot(0).evictions());
+    }
+
+    @Test
+    void endpoint_listsInstrumentedCachesWithoutCreatingUnknownOnes() {
+        ConcurrentMapCacheManager target = new ConcurrentMapCacheManager();
+        SingleFlightCacheManager cacheManager = new SingleFlightCacheManager(target, new SimpleMeterRegistry());
+        CacheStatisticsEndpoint endpoint = new CacheStatisticsEndpoint(cacheManager);
+        cacheManager.getCache("ticketsById").get("TKT-1", () -> "ticket");
+        cacheManager.getCache("ticketStatsByStatus");
+
+        List<CacheSnapshot> caches = endpoint.caches();
+
+        assertEquals(List.of("ticketStatsByStatus", "ticketsById"), caches.stream().map(CacheSnapshot::name).toList());
+        assertEquals(1L, endpoint.cache("ticketsById").loads());
+        assertNull(endpoint.cache("unknown"));
+        assertFalse(target.getCacheNames().contains("unknown"));
+    }
+
+    private static double sizeEvictions(SimpleMeterRegistry meterRegistry) {
+        return meterRegistry.get(CacheStatistics.EVICTIONS_METRIC)
+            .tags("cache", "ticketPagesByStatus", "backend", "simple", "cause", "size")
+            .counter()
+            .count();
+    }
+
+    private static double gets(SimpleMeterRegistry meterRegistry, String result) {
+        return meterRegistry.get(CacheStatistics.GETS_METRIC)
+            .tags("cache", "ticketsById", "backend", "simple", "result", result)
+            .counter()
+            .count();
+    }
+}
@@ -0,0 +1,54 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NearCacheTagGenerationsTest {
+    private static final String CACHE = "ticketPagesByServiceSeverity";
+
+    @Test
+    void current_readsRedisOnceAndAdvancesArePublished() {
+        CacheTagGenerations remote = mock(CacheTagGenerations.class);
+        CacheInvalidationBus bus = mock(CacheInvalidationBus.class);
+        NearCacheTagGenerations generations = new NearCacheTagGenerations(remote, bus, properties());
+        when(remote.current(CACHE, "payments-api")).thenReturn(2L);
+        when(remote.advance(CACHE, "payments-api")).thenReturn(3L);
+
+        assertEquals(2, generations.current(CACHE, "payments-api"));
+        assertEquals(2, generations.current(CACHE, "payments-api"));
+        assertEquals(3, generations.advance(CACHE, "payments-api"));
+        assertEquals(3, generations.current(CACHE, "payments-api"));
+
+        verify(remote, times(1)).current(CACHE, "payments-api");
+        verify(bus).publish(CacheInvalidation.generation(CACHE, "payments-api", 3));
+    }
+
+    @Test
+    void apply_raisesLocalGenerationsAndIgnoresStaleOrMalformedMessages() {
+        CacheTagGenerations remote = mock(CacheTagGenerations.class);
+        NearCacheTagGenerations generations =
+            new NearCacheTagGenerations(remote, mock(CacheInvalidationBus.class), properties());
+        when(remote.current(CACHE, "ops@eu")).thenReturn(1L);
+        assertEquals(1, generations.current(CACHE, "ops@eu"));
+
+        generations.apply(CacheInvalidation.generation(CACHE, "ops@eu", 5));
+        generations.apply(CacheInvalidation.generation(CACHE, "ops@eu", 4));
+        generations.apply(new CacheInvalidation(CacheInvalidation.Kind.GENERATION, CACHE, "ops@eu@next"));
+        generations.apply(CacheInvalidation.evict(CACHE, "ops@eu@9"));
+
+        assertEquals(5, generations.current(CACHE, "ops@eu"));
+        verify(remote, times(1)).current(CACHE, "ops@eu");
+    }
+
+    private static NearCacheProperties properties() {
+        return new NearCacheProperties(true, List.of(CACHE), 100, Duration.ofSeconds(30), "incidentops:cache-invalidation");
+    }
+}
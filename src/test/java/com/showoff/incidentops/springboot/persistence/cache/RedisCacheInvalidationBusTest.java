@@ -0,0 +1,68 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RedisCacheInvalidationBusTest {
+    private static final String CHANNEL = "incidentops:cache-invalidation";
+
+    @Test
+    void publish_sendsEncodedInvalidationOnChannel() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        RedisCacheInvalidationBus bus = new RedisCacheInvalidationBus(redisTemplate, CHANNEL);
+
+        bus.publish(CacheInvalidation.evict("ticketsById", "TKT-1"));
+
+        verify(redisTemplate).convertAndSend(CHANNEL, bus.nodeId() + "\tEVICT\tticketsById\tTKT-1");
+    }
+
+    @Test
+    void onMessage_deliversPeerInvalidationsAndSkipsOwnAndMalformed() {
+        RedisCacheInvalidationBus bus = new RedisCacheInvalidationBus(mock(StringRedisTemplate.class), CHANNEL);
+        List<CacheInvalidation> received = new ArrayList<>();
+        bus.subscribe(received::add);
+
+        bus.onMessage(message(RedisCacheInvalidationBus.encode("peer", CacheInvalidation.evict("pages", "OPEN@0:0:20"))), null);
+        bus.onMessage(message(RedisCacheInvalidationBus.encode("peer", CacheInvalidation.clear("pages"))), null);
+        bus.onMessage(message(RedisCacheInvalidationBus.encode("peer", CacheInvalidation.evict("pages", "a\tb"))), null);
+        bus.onMessage(message(RedisCacheInvalidationBus.encode(bus.nodeId(), CacheInvalidation.clear("pages"))), null);
+        bus.onMessage(message("peer\tUNKNOWN\tpages\tx"), null);
+        bus.onMessage(message("garbage"), null);
+
+        assertEquals(
+            List.of(
+                CacheInvalidation.evict("pages", "OPEN@0:0:20"),
+                CacheInvalidation.clear("pages"),
+                CacheInvalidation.evict("pages", "a\tb")
+            ),
+            received
+        );
+    }
+
+    @Test
+    void publish_swallowsRedisFailures() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        doThrow(new IllegalStateException("redis down")).when(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+        RedisCacheInvalidationBus bus = new RedisCacheInvalidationBus(redisTemplate, CHANNEL);
+
+        bus.publish(CacheInvalidation.clear("ticketsById"));
+
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,28 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RedisCacheTagGenerationsTest {
+    private static final String KEY = "incidentops:cache-generation:ticketPagesByStatus:OPEN";
+
+    @Test
+    void generationsAreReadAndAdvancedInRedis() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        RedisCacheTagGenerations generations = new RedisCacheTagGenerations(redisTemplate);
+
+        assertEquals(0, generations.current("ticketPagesByStatus", "OPEN"));
+        when(values.increment(KEY)).thenReturn(4L);
+        assertEquals(4, generations.advance("ticketPagesByStatus", "OPEN"));
+        when(values.get(KEY)).thenReturn("4");
+        assertEquals(4, generations.current("ticketPagesByStatus", "OPEN"));
+    }
+}
@@ -0,0 +1,216 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightCacheTest {
+    @Test
+    void concurrentMisses_shareOneLoad() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("ticketsById"), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get("TKT-1", () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "ticket";
+                })));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (coalesced(meterRegistry) < callers - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("ticket", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get(CacheStatistics.LOADS_METRIC).tag("cache", "ticketsById").timer().count());
+        assertEquals(callers - 1, coalesced(meterRegistry));
+        assertEquals(0, cache.inFlightLoads());
+        assertEquals("ticket", cache.get("TKT-1").get());
+    }
+
+    @Test
+    void failedLoad_isNotCachedAndNextCallerRetries() {
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("ticketsById"), new SimpleMeterRegistry());
+
+        Cache.ValueRetrievalException ex = assertThrows(
+            Cache.ValueRetrievalException.class,
+            () -> cache.get("TKT-2", () -> {
+                throw new IllegalStateException("db down");
+            })
+        );
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+
+        assertNull(cache.get("TKT-2"));
+        assertEquals("ticket", cache.get("TKT-2", () -> "ticket"));
+        assertEquals(0, cache.inFlightLoads());
+    }
+
+    @Test
+    void loadedValue_doesNotOverwriteConcurrentPut() {
+        ConcurrentMapCache target = new ConcurrentMapCache("ticketsById");
+        SingleFlightCache cache = new SingleFlightCache(target, new SimpleMeterRegistry());
+
+        String result = cache.get("TKT-3", () -> {
+            target.put("TKT-3", "updated");
+            return "stale";
+        });
+
+        assertEquals("updated", result);
+        assertEquals("updated", cache.get("TKT-3").get());
+    }
+
+    @Test
+    void loadRacingAnEvictOrClear_isReturnedButNotCached() {
+        ConcurrentMapCache target = new ConcurrentMapCache("ticketsById");
+        SingleFlightCache cache = new SingleFlightCache(target, new SimpleMeterRegistry());
+
+        String evicted = cache.get("TKT-4", () -> {
+            cache.evict("TKT-4");
+            return "stale";
+        });
+        String cleared = cache.get("TKT-5", () -> {
+            cache.clear();
+            return "stale";
+        });
+
+        assertEquals("stale", evicted);
+        assertEquals("stale", cleared);
+        assertNull(target.get("TKT-4"));
+        assertNull(target.get("TKT-5"));
+        assertEquals("fresh", cache.get("TKT-4", () -> "fresh"));
+        assertEquals("fresh", target.get("TKT-4").get());
+        assertEquals(0, cache.inFlightLoads());
+    }
+
+    @Test
+    void entriesPastRefreshAfterWrite_areReloadedAndKeptWhenReloadFails() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(
+            new ConcurrentMapCache("ticketStatsByStatus"),
+            new SimpleMeterRegistry(),
+            Duration.ofMillis(200),
+            100
+        );
+        assertEquals("v1", cache.get("ALL", () -> "v1"));
+        assertEquals("v1", cache.get("ALL", () -> "v2"));
+
+        Thread.sleep(250);
+        assertEquals("v1", cache.get("ALL", () -> "v2"));
+        assertEquals("v2", cache.get("ALL", () -> "v3"));
+
+        Thread.sleep(250);
+        assertEquals("v2", cache.get("ALL", () -> {
+            throw new IllegalStateException("db down");
+        }));
+        assertEquals("v2", cache.get("ALL", () -> "v4"));
+        assertEquals(0, cache.inFlightLoads());
+    }
+
+    @Test
+    void refresh_runsOnTheExecutorAndNeverOverwritesAConcurrentWrite() throws Exception {
+        List<Runnable> scheduled = new ArrayList<>();
+        SingleFlightCache cache = new SingleFlightCache(
+            new ConcurrentMapCache("ticketStatsByStatus"),
+            new SimpleMeterRegistry(),
+            Duration.ofMillis(50),
+            100,
+            scheduled::add
+        );
+        cache.get("ALL", () -> "v1");
+        cache.get("OPEN", () -> "v1");
+        Thread.sleep(100);
+
+        assertEquals("v1", cache.get("ALL", () -> "refreshed"));
+        assertEquals("v1", cache.get("ALL", () -> "refreshed again"));
+        assertEquals("v1", cache.get("OPEN", () -> "refreshed"));
+        assertEquals(2, scheduled.size());
+        assertEquals("v1", cache.get("ALL").get());
+
+        cache.put("OPEN", "updated");
+        scheduled.forEach(Runnable::run);
+
+        assertEquals("refreshed", cache.get("ALL").get());
+        assertEquals("updated", cache.get("OPEN").get());
+    }
+
+    @Test
+    void refresh_isDroppedWhenTheEntryIsEvictedMeanwhile() throws Exception {
+        List<Runnable> scheduled = new ArrayList<>();
+        ConcurrentMapCache target = new ConcurrentMapCache("ticketStatsByStatus");
+        SingleFlightCache cache = new SingleFlightCache(
+            target,
+            new SimpleMeterRegistry(),
+            Duration.ofMillis(50),
+            100,
+            scheduled::add
+        );
+        cache.get("ALL", () -> "v1");
+        Thread.sleep(100);
+        cache.get("ALL", () -> "stale");
+
+        cache.evict("ALL");
+        scheduled.forEach(Runnable::run);
+
+        assertNull(target.get("ALL"));
+    }
+
+    @Test
+    void postProcessor_wrapsCacheManagersOnce() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        SingleFlightCachePostProcessor postProcessor = new SingleFlightCachePostProcessor(
+            beanFactory.getBeanProvider(MeterRegistry.class),
+            beanFactory.getBeanProvider(IncidentOpsProperties.class),
+            beanFactory.getBeanProvider(Executor.class)
+        );
+        ConcurrentMapCacheManager target = new ConcurrentMapCacheManager("ticketsById");
+
+        Object wrapped = postProcessor.postProcessAfterInitialization(target, "cacheManager");
+
+        assertInstanceOf(SingleFlightCacheManager.class, wrapped);
+        assertSame(wrapped, postProcessor.postProcessAfterInitialization(wrapped, "cacheManager"));
+        assertSame("value", postProcessor.postProcessAfterInitialization("value", "other"));
+        CacheManager manager = (CacheManager) wrapped;
+        assertSame(manager.getCache("ticketsById"), manager.getCache("ticketsById"));
+        assertTrue(manager.getCacheNames().contains("ticketsById"));
+    }
+
+    private static double coalesced(SimpleMeterRegistry meterRegistry) {
+        return meterRegistry.get(CacheStatistics.COALESCED_METRIC).tag("cache", "ticketsById").counter().count();
+    }
+}
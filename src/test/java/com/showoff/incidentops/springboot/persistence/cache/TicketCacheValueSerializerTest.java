@@ -0,0 +1,99 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsGroup;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TicketCacheValueSerializerTest {
+    private final TicketCacheValueSerializer serializer = new TicketCacheValueSerializer(getClass().getClassLoader());
+
+    @Test
+    void ticketsPagesAndStats_roundTrip() {
+        IncidentTicketResponse ticket = new IncidentTicketResponse("TKT-1", "payments-api", 4, "queue délai", "OPEN", 300);
+        IncidentTicketResponse sparse = new IncidentTicketResponse("TKT-2", null, -1, "", "ACK", Long.MAX_VALUE);
+        Page<IncidentTicketResponse> page = new PageImpl<>(List.of(ticket, sparse), PageRequest.of(3, 20), 62);
+        TicketStatsResponse stats = new TicketStatsResponse(
+            "ALL",
+            7,
+            List.of(new TicketStatsGroup("payments-api", 4, "OPEN", 7))
+        );
+
+        assertEquals(ticket, serializer.deserialize(serializer.serialize(ticket)));
+        assertEquals(sparse, serializer.deserialize(serializer.serialize(sparse)));
+        assertEquals(stats, serializer.deserialize(serializer.serialize(stats)));
+
+        Page<?> restored = (Page<?>) serializer.deserialize(serializer.serialize(page));
+        assertEquals(page.getContent(), restored.getContent());
+        assertEquals(PageRequest.of(3, 20), restored.getPageable());
+        assertEquals(62, restored.getTotalElements());
+
+        Page<?> empty = (Page<?>) serializer.deserialize(serializer.serialize(Page.empty(PageRequest.of(0, 50))));
+        assertEquals(0, empty.getTotalElements());
+        assertEquals(50, empty.getSize());
+    }
+
+    @Test
+    void otherValues_fallBackToJdkSerialization() {
+        ArrayList<String> value = new ArrayList<>(List.of("a", "b"));
+        Page<String> strings = new PageImpl<>(List.of("a"), PageRequest.of(0, 1), 1);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertEquals(TicketCacheValueSerializer.TYPE_JDK, bytes[1]);
+        assertEquals(value, serializer.deserialize(bytes));
+        assertEquals(TicketCacheValueSerializer.TYPE_JDK, serializer.serialize(strings)[1]);
+        assertArrayEquals(new byte[0], serializer.serialize(null));
+        assertNull(serializer.deserialize(new byte[0]));
+        assertNull(serializer.deserialize(null));
+    }
+
+    @Test
+    void unknownFormatsAndTruncatedValues_areRejected() {
+        byte[] ticket = serializer.serialize(new IncidentTicketResponse("TKT-3", "api", 1, "s", "OPEN", 0));
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(new byte[] {9, 1, 0}));
+        assertThrows(SerializationException.class, () -> serializer.deserialize(new byte[] {1, 42}));
+        assertThrows(SerializationException.class, () -> serializer.deserialize(new byte[] {1}));
+        assertThrows(
+            SerializationException.class,
+            () -> serializer.deserialize(Arrays.copyOf(ticket, ticket.length - 2))
+        );
+    }
+
+    @Test
+    void ticketPage_isSmallerThanJson() throws Exception {
+        List<IncidentTicketResponse> tickets = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tickets.add(new IncidentTicketResponse("TKT-" + (5000 + i), "payments-api", 4, "queue delay " + i, "OPEN", i));
+        }
+        Page<IncidentTicketResponse> page = new PageImpl<>(tickets, PageRequest.of(0, 20), 400);
+
+        int binary = serializer.serialize(page).length;
+        int json = new ObjectMapper().writeValueAsBytes(page).length;
+
+        assertTrue(binary * 2 < json, "binary=" + binary + " json=" + json);
+    }
+
+    @Test
+    void redisCacheConfiguration_prefixesKeysWithFormatVersion() {
+        var configuration = new RedisCacheSerializationConfig().redisCacheConfiguration();
+
+        assertEquals("incidentops:v1:ticketsById::", configuration.getKeyPrefixFor("ticketsById"));
+    }
+}
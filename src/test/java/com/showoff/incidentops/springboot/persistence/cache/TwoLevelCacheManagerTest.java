@@ -0,0 +1,168 @@
+package com.showoff.incidentops.springboot.persistence.cache;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TwoLevelCacheManagerTest {
+    private static final NearCacheProperties PROPERTIES = new NearCacheProperties(
+        true,
+        List.of("ticketsById"),
+        100,
+        Duration.ofMinutes(1),
+        "incidentops:cache-invalidation"
+    );
+    private static final IncidentOpsProperties.CacheLimits LIMITS = new IncidentOpsProperties.CacheLimits(null, null);
+
+    @Test
+    void reads_areServedFromLocalTierOnceLoaded() {
+        ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager();
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remote, PROPERTIES, LIMITS, new PeerBus());
+        remote.getCache("ticketsById").put("TKT-1", "remote value");
+
+        Cache cache = manager.getCache("ticketsById");
+        assertInstanceOf(TwoLevelCache.class, cache);
+        assertEquals("remote value", cache.get("TKT-1").get());
+        remote.getCache("ticketsById").evict("TKT-1");
+
+        assertEquals("remote value", cache.get("TKT-1").get());
+        assertNull(cache.get("TKT-2"));
+    }
+
+    @Test
+    void writes_invalidateLocalCopiesOnPeers() {
+        ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager();
+        PeerBus busA = new PeerBus();
+        PeerBus busB = new PeerBus();
+        busA.peers.add(busB);
+        busB.peers.add(busA);
+        TwoLevelCacheManager nodeA = new TwoLevelCacheManager(remote, PROPERTIES, LIMITS, busA);
+        TwoLevelCacheManager nodeB = new TwoLevelCacheManager(remote, PROPERTIES, LIMITS, busB);
+        busA.subscribe(nodeA::apply);
+        busB.subscribe(nodeB::apply);
+
+        nodeA.getCache("ticketsById").put("TKT-1", "v1");
+        assertEquals("v1", nodeB.getCache("ticketsById").get("TKT-1").get());
+
+        nodeA.getCache("ticketsById").put("TKT-1", "v2");
+        assertEquals("v2", nodeB.getCache("ticketsById").get("TKT-1").get());
+
+        nodeA.getCache("ticketsById").evict("TKT-1");
+        assertNull(nodeB.getCache("ticketsById").get("TKT-1"));
+
+        nodeB.getCache("ticketsById").put("TKT-2", "v1");
+        nodeA.getCache("ticketsById").get("TKT-2");
+        nodeB.getCache("ticketsById").clear();
+        assertNull(nodeA.getCache("ticketsById").get("TKT-2"));
+    }
+
+    @Test
+    void valueLoader_runsOnceAndCachesNulls() {
+        ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager();
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remote, PROPERTIES, LIMITS, new PeerBus());
+        Cache cache = manager.getCache("ticketsById");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get("TKT-404", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get("TKT-404", loads::incrementAndGet));
+
+        assertEquals(1, loads.get());
+        assertNotNull(cache.get("TKT-404"));
+    }
+
+    @Test
+    void putIfAbsent_keepsExistingRemoteValueWithoutNotifyingPeers() {
+        ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager();
+        List<CacheInvalidation> published = new ArrayList<>();
+        PeerBus bus = new PeerBus() {
+            @Override
+            public void publish(CacheInvalidation invalidation) {
+                published.add(invalidation);
+            }
+        };
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remote, PROPERTIES, LIMITS, bus);
+        remote.getCache("ticketsById").put("TKT-1", "updated");
+        Cache cache = manager.getCache("ticketsById");
+
+        assertEquals("updated", cache.putIfAbsent("TKT-1", "stale").get());
+        assertNull(cache.putIfAbsent("TKT-2", "fresh"));
+        remote.getCache("ticketsById").clear();
+
+        assertEquals("updated", cache.get("TKT-1").get());
+        assertEquals("fresh", cache.get("TKT-2").get());
+        assertEquals(List.of(), published);
+    }
+
+    @Test
+    void cachesWithoutNearTier_passThroughToRemote() {
+        ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager();
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remote, PROPERTIES, LIMITS, new PeerBus());
+
+        assertSame(remote.getCache("ticketStatsByStatus"), manager.getCache("ticketStatsByStatus"));
+        assertEquals(remote.getCacheNames(), manager.getCacheNames());
+    }
+
+    @Test
+    void localTier_isClampedToTheCacheLimit() {
+        IncidentOpsProperties.CacheLimits limits = new IncidentOpsProperties.CacheLimits(
+            null,
+            Map.of("ticketsById", new IncidentOpsProperties.CacheLimits.Limit(20L, Duration.ofSeconds(10), null))
+        );
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(new ConcurrentMapCacheManager(), PROPERTIES, limits, new PeerBus());
+
+        var local = (com.github.benmanes.caffeine.cache.Cache<?, ?>) manager.getCache("ticketsById").getNativeCache();
+
+        assertEquals(20, local.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofSeconds(10), local.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+    }
+
+    @Test
+    void properties_rejectInvalidSettings() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new NearCacheProperties(true, List.of(), 0, Duration.ofSeconds(1), "channel")
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new NearCacheProperties(true, List.of(), 1, Duration.ZERO, "channel")
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new NearCacheProperties(true, null, 1, Duration.ofSeconds(1), " ")
+        );
+        assertThrows(IllegalArgumentException.class, () -> new CacheInvalidation(CacheInvalidation.Kind.EVICT, "c", null));
+    }
+
+    private static class PeerBus implements CacheInvalidationBus {
+        private final List<Consumer<CacheInvalidation>> subscribers = new ArrayList<>();
+        private final List<PeerBus> peers = new ArrayList<>();
+
+        @Override
+        public void publish(CacheInvalidation invalidation) {
+            peers.forEach(peer -> peer.subscribers.forEach(subscriber -> subscriber.accept(invalidation)));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidation> subscriber) {
+            subscribers.add(subscriber);
+        }
+    }
+}
@@ -1,11 +1,26 @@
 package com.showoff.incidentops.springboot.persistence.controller;
 
+import com.showoff.incidentops.springboot.config.TicketExportProperties;
+import com.showoff.incidentops.springboot.persistence.dto.BatchCreateIncidentTicketResult;
+import com.showoff.incidentops.springboot.persistence.dto.BatchCreateIncidentTicketsResponse;
+import com.showoff.incidentops.springboot.persistence.dto.BulkUpdateIncidentTicketStatusRequest;
+import com.showoff.incidentops.springboot.persistence.dto.BulkUpdateIncidentTicketStatusResponse;
 import com.showoff.incidentops.springboot.persistence.dto.CreateIncidentTicketRequest;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketPageResponse;
 import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketSliceResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsGroup;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusDuration;
+import com.showoff.incidentops.springboot.persistence.dto.TicketTransitionResponse;
 import com.showoff.incidentops.springboot.persistence.dto.UpdateIncidentTicketStatusRequest;
 import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketNotFoundException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketTransitionException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketVersionConflictException;
 import com.showoff.incidentops.springboot.persistence.service.IncidentTicketCommandService;
 import com.showoff.incidentops.springboot.persistence.service.IncidentTicketQueryService;
+import com.showoff.incidentops.springboot.persistence.service.TicketCountMode;
+import com.showoff.incidentops.springboot.persistence.service.TicketExportFormat;
 import com.showoff.incidentops.springboot.rest.exception.ApiErrorResponse;
 import com.showoff.incidentops.springboot.rest.exception.GlobalApiExceptionHandler;
 import jakarta.validation.ConstraintViolationException;
@@ -14,24 +29,38 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class IncidentTicketControllerTest {
@@ -44,7 +73,11 @@ class IncidentTicketControllerTest {
     void setUp() {
         commandService = mock(IncidentTicketCommandService.class);
         queryService = mock(IncidentTicketQueryService.class);
-        IncidentTicketController controller = new IncidentTicketController(commandService, queryService);
+        IncidentTicketController controller = new IncidentTicketController(
+            commandService,
+            queryService,
+            new TicketExportProperties(Duration.ofMinutes(30))
+        );
         validator = new LocalValidatorFactoryBean();
         validator.afterPropertiesSet();
         mvc = MockMvcBuilders.standaloneSetup(controller)
@@ -61,7 +94,7 @@ class IncidentTicketControllerTest {
     @Test
     void create_returns201WithJsonResponse() throws Exception {
         when(commandService.create(any(CreateIncidentTicketRequest.class))).thenReturn(
-            new IncidentTicketResponse("TKT-7001", "payments-api", 4, "queue delay", "OPEN")
+            new IncidentTicketResponse("TKT-7001", "payments-api", 4, "queue delay", "OPEN", 0)
         );
 
         mvc.perform(post("/api/v4/tickets")
@@ -78,10 +111,50 @@ class IncidentTicketControllerTest {
             .andExpect(jsonPath("$.serviceId").value("payments-api"));
     }
 
+    @Test
+    void createAll_returnsPerItemResults() throws Exception {
+        when(commandService.createAll(anyList())).thenReturn(
+            new BatchCreateIncidentTicketsResponse(
+                2,
+                1,
+                1,
+                List.of(
+                    BatchCreateIncidentTicketResult.created(0, "TKT-7001"),
+                    BatchCreateIncidentTicketResult.rejected(1, "severity must be between 1 and 5")
+                )
+            )
+        );
+
+        mvc.perform(post("/api/v4/tickets/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "tickets": [
+                        {"serviceId": "payments-api", "severity": 4, "summary": "queue delay"},
+                        {"serviceId": "payments-api", "severity": 9, "summary": "bad severity"}
+                      ]
+                    }
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(1))
+            .andExpect(jsonPath("$.results[0].ticketId").value("TKT-7001"))
+            .andExpect(jsonPath("$.results[1].outcome").value("REJECTED"));
+
+        mvc.perform(post("/api/v4/tickets/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "tickets": []
+                    }
+                    """))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.details.tickets").exists());
+    }
+
     @Test
     void updateStatus_returnsUpdatedTicketResponse() throws Exception {
-        when(commandService.updateStatus(eq("TKT-7001"), eq("resolved"))).thenReturn(
-            new IncidentTicketResponse("TKT-7001", "payments-api", 4, "queue delay", "RESOLVED")
+        when(commandService.updateStatus(eq("TKT-7001"), eq("resolved"), isNull())).thenReturn(
+            new IncidentTicketResponse("TKT-7001", "payments-api", 4, "queue delay", "RESOLVED", 1)
         );
 
         mvc.perform(patch("/api/v4/tickets/TKT-7001/status")
@@ -92,18 +165,120 @@ class IncidentTicketControllerTest {
                     }
                     """))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
             .andExpect(jsonPath("$.ticketId").value("TKT-7001"))
+            .andExpect(jsonPath("$.status").value("RESOLVED"))
+            .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void updateStatus_rejectsIllegalTransitionWithConflict() throws Exception {
+        when(commandService.updateStatus(eq("TKT-7001"), eq("open"), isNull())).thenThrow(
+            new IncidentTicketTransitionException("ticket TKT-7001 cannot transition from CLOSED to OPEN")
+        );
+
+        mvc.perform(patch("/api/v4/tickets/TKT-7001/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "status": "open"
+                    }
+                    """))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.code").value("TICKET_TRANSITION_CONFLICT"));
+    }
+
+    @Test
+    void updateStatus_honoursIfMatchPrecondition() throws Exception {
+        when(commandService.updateStatus(eq("TKT-7001"), eq("ack"), eq(4L))).thenReturn(
+            new IncidentTicketResponse("TKT-7001", "payments-api", 4, "queue delay", "ACK", 5)
+        );
+        when(commandService.updateStatus(eq("TKT-7001"), eq("ack"), eq(3L))).thenThrow(
+            new IncidentTicketVersionConflictException("ticket TKT-7001 is at version 4, expected 3")
+        );
+
+        mvc.perform(patch("/api/v4/tickets/TKT-7001/status")
+                .header(HttpHeaders.IF_MATCH, "W/\"4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "status": "ack"
+                    }
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+
+        mvc.perform(patch("/api/v4/tickets/TKT-7001/status")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "status": "ack"
+                    }
+                    """))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.code").value("TICKET_VERSION_CONFLICT"));
+
+        mvc.perform(patch("/api/v4/tickets/TKT-7001/status")
+                .header(HttpHeaders.IF_MATCH, "4")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "status": "ack"
+                    }
+                    """))
+            .andExpect(status().isBadRequest());
+
+        mvc.perform(patch("/api/v4/tickets/TKT-7001/status")
+                .header(HttpHeaders.IF_MATCH, "\"v4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "status": "ack"
+                    }
+                    """))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void updateStatuses_returnsAffectedCount() throws Exception {
+        when(commandService.updateStatuses(any(BulkUpdateIncidentTicketStatusRequest.class))).thenReturn(
+            new BulkUpdateIncidentTicketStatusResponse(3, "RESOLVED")
+        );
+
+        mvc.perform(patch("/api/v4/tickets/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "ticketIds": ["TKT-7001", "TKT-7002", "TKT-7003"],
+                      "status": "resolved"
+                    }
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updated").value(3))
             .andExpect(jsonPath("$.status").value("RESOLVED"));
+
+        mvc.perform(patch("/api/v4/tickets/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "ticketIds": ["not-a-ticket"],
+                      "status": "resolved"
+                    }
+                    """))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
     }
 
     @Test
     void getById_returns200ForExistingTicket() throws Exception {
         when(queryService.getByTicketId(eq("TKT-7001"))).thenReturn(
-            new IncidentTicketResponse("TKT-7001", "identity-api", 3, "token issue", "OPEN")
+            new IncidentTicketResponse("TKT-7001", "identity-api", 3, "token issue", "OPEN", 0)
         );
 
         mvc.perform(get("/api/v4/tickets/TKT-7001"))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
             .andExpect(jsonPath("$.ticketId").value("TKT-7001"))
             .andExpect(jsonPath("$.serviceId").value("identity-api"));
     }
@@ -113,8 +288,8 @@ class IncidentTicketControllerTest {
         when(queryService.listByStatus(eq("OPEN"), eq(0), eq(2))).thenReturn(
             new PageImpl<>(
                 List.of(
-                    new IncidentTicketResponse("TKT-7002", "payments-api", 5, "db outage", "OPEN"),
-                    new IncidentTicketResponse("TKT-7001", "identity-api", 4, "queue delay", "OPEN")
+                    new IncidentTicketResponse("TKT-7002", "payments-api", 5, "db outage", "OPEN", 0),
+                    new IncidentTicketResponse("TKT-7001", "identity-api", 4, "queue delay", "OPEN", 0)
                 ),
                 PageRequest.of(0, 2),
                 3
@@ -122,7 +297,7 @@ class IncidentTicketControllerTest {
         );
         when(queryService.searchByServiceAndMinSeverity(eq("payments-api"), eq(4), eq(0), eq(1))).thenReturn(
             new PageImpl<>(
-                List.of(new IncidentTicketResponse("TKT-7002", "payments-api", 5, "db outage", "OPEN")),
+                List.of(new IncidentTicketResponse("TKT-7002", "payments-api", 5, "db outage", "OPEN", 0)),
                 PageRequest.of(0, 1),
                 1
             )
@@ -147,6 +322,212 @@ class IncidentTicketControllerTest {
             .andExpect(jsonPath("$.totalElements").value(1));
     }
 
+    @Test
+    void listByStatus_withCountModeReturnsPageWithoutExactCount() throws Exception {
+        when(queryService.listByStatus(eq("OPEN"), eq(0), eq(2), eq(TicketCountMode.ESTIMATE))).thenReturn(
+            new IncidentTicketPageResponse(
+                List.of(new IncidentTicketResponse("TKT-7002", "payments-api", 5, "db outage", "OPEN", 0)),
+                0,
+                2,
+                true,
+                1200L,
+                "ESTIMATE"
+            )
+        );
+        when(queryService.listByStatus(eq("OPEN"), eq(0), eq(2), eq(TicketCountMode.NONE))).thenReturn(
+            new IncidentTicketPageResponse(List.of(), 0, 2, false, null, "NONE")
+        );
+
+        mvc.perform(get("/api/v4/tickets")
+                .param("status", "OPEN")
+                .param("size", "2")
+                .param("countMode", "estimate"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].ticketId").value("TKT-7002"))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.totalElements").value(1200))
+            .andExpect(jsonPath("$.countMode").value("ESTIMATE"));
+
+        mvc.perform(get("/api/v4/tickets")
+                .param("size", "2")
+                .param("countMode", "none"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.countMode").value("NONE"));
+
+        mvc.perform(get("/api/v4/tickets")
+                .param("countMode", "approximate"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+    }
+
+    @Test
+    void listRecentByStatus_returnsSliceForWindow() throws Exception {
+        when(queryService.listRecentByStatus(eq("OPEN"), eq(3), eq(0), eq(20))).thenReturn(
+            new IncidentTicketPageResponse(
+                List.of(new IncidentTicketResponse("TKT-7010", "payments-api", 4, "queue delay", "OPEN", 0)),
+                0,
+                20,
+                false,
+                null,
+                "NONE"
+            )
+        );
+
+        mvc.perform(get("/api/v4/tickets/recent")
+                .param("days", "3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].ticketId").value("TKT-7010"))
+            .andExpect(jsonPath("$.hasNext").value(false));
+
+        mvc.perform(get("/api/v4/tickets/recent")
+                .param("days", "365"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void keysetListAndSearch_returnSlicesWithContinuationCursor() throws Exception {
+        when(queryService.listByStatusAfter(eq("OPEN"), eq("NDpUS1QtNzAwMQ"), eq(2))).thenReturn(
+            new IncidentTicketSliceResponse(
+                List.of(new IncidentTicketResponse("TKT-7000", "identity-api", 3, "token issue", "OPEN", 0)),
+                1,
+                false,
+                null
+            )
+        );
+        when(queryService.searchByServiceAndMinSeverityAfter(eq("payments-api"), eq(4), eq(null), eq(1))).thenReturn(
+            new IncidentTicketSliceResponse(
+                List.of(new IncidentTicketResponse("TKT-7002", "payments-api", 5, "db outage", "OPEN", 0)),
+                1,
+                true,
+                "NTpUS1QtNzAwMg"
+            )
+        );
+
+        mvc.perform(get("/api/v4/tickets/keyset")
+                .param("status", "OPEN")
+                .param("cursor", "NDpUS1QtNzAwMQ")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].ticketId").value("TKT-7000"))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        mvc.perform(get("/api/v4/tickets/search/keyset")
+                .param("serviceId", "payments-api")
+                .param("minSeverity", "4")
+                .param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].serviceId").value("payments-api"))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").value("NTpUS1QtNzAwMg"));
+    }
+
+    @Test
+    void searchBySummary_routesFullTextQueryWithCursor() throws Exception {
+        when(queryService.searchBySummary(eq("checkout timeout"), eq("MC41OlRLVC03OTAx"), eq(5))).thenReturn(
+            new IncidentTicketSliceResponse(
+                List.of(new IncidentTicketResponse("TKT-7902", "payments-api", 3, "checkout timeout", "OPEN", 0)),
+                1,
+                false,
+                null
+            )
+        );
+
+        mvc.perform(get("/api/v4/tickets/search")
+                .param("q", "checkout timeout")
+                .param("cursor", "MC41OlRLVC03OTAx")
+                .param("size", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].ticketId").value("TKT-7902"))
+            .andExpect(jsonPath("$.hasNext").value(false));
+
+        mvc.perform(get("/api/v4/tickets/search")
+                .param("q", "x".repeat(201)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void historyAndTimeInStatus_returnTransitions() throws Exception {
+        when(queryService.getHistory("TKT-7001")).thenReturn(List.of(
+            new TicketTransitionResponse("TKT-7001", null, "OPEN", 0, Instant.parse("2026-03-01T10:00:00Z")),
+            new TicketTransitionResponse("TKT-7001", "OPEN", "ACK", 1, Instant.parse("2026-03-01T10:05:00Z"))
+        ));
+        when(queryService.timeInStatus(List.of("TKT-7001", "TKT-7002"))).thenReturn(List.of(
+            new TicketStatusDuration("TKT-7001", "OPEN", 300)
+        ));
+
+        mvc.perform(get("/api/v4/tickets/TKT-7001/history"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].toStatus").value("OPEN"))
+            .andExpect(jsonPath("$[1].fromStatus").value("OPEN"))
+            .andExpect(jsonPath("$[1].version").value(1));
+
+        mvc.perform(get("/api/v4/tickets/time-in-status")
+                .param("ticketIds", "TKT-7001", "TKT-7002"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].status").value("OPEN"))
+            .andExpect(jsonPath("$[0].seconds").value(300));
+
+        mvc.perform(get("/api/v4/tickets/bad-id/history"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void stats_returnsGroupedCounts() throws Exception {
+        when(queryService.getStats(isNull())).thenReturn(new TicketStatsResponse(
+            "ALL",
+            3,
+            List.of(new TicketStatsGroup("payments-api", 5, "OPEN", 3))
+        ));
+
+        mvc.perform(get("/api/v4/tickets/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("ALL"))
+            .andExpect(jsonPath("$.total").value(3))
+            .andExpect(jsonPath("$.groups[0].serviceId").value("payments-api"))
+            .andExpect(jsonPath("$.groups[0].severity").value(5))
+            .andExpect(jsonPath("$.groups[0].count").value(3));
+    }
+
+    @Test
+    void exportByStatus_streamsRowsAsAttachment() throws Exception {
+        when(queryService.resolveStatus("open")).thenReturn("OPEN");
+        when(queryService.exportByStatus(eq("OPEN"), eq(TicketExportFormat.CSV), any())).thenAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(2);
+            output.write("ticketId\r\nTKT-7001\r\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult started = mvc.perform(get("/api/v4/tickets/export")
+                .param("status", "open")
+                .param("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tickets.csv\""))
+            .andExpect(content().string("ticketId\r\nTKT-7001\r\n"));
+
+        mvc.perform(get("/api/v4/tickets/export")
+                .param("format", "xml"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportByStatus_rejectsUnknownStatusBeforeStreaming() throws Exception {
+        when(queryService.resolveStatus("bogus")).thenThrow(new IllegalArgumentException("Unknown status: bogus"));
+
+        mvc.perform(get("/api/v4/tickets/export")
+                .param("status", "bogus"))
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isBadRequest())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION));
+
+        verify(queryService, never()).exportByStatus(any(), any(), any());
+    }
+
     @Test
     void validationErrors_return400WithDetails() throws Exception {
         mvc.perform(post("/api/v4/tickets")
@@ -1,10 +1,14 @@
 package com.showoff.incidentops.springboot.persistence.entity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+
 class IncidentTicketEntityTest {
     @Test
     void constructorAndSettersExposeMutableStateForJpa() {
@@ -28,4 +32,19 @@ class IncidentTicketEntityTest {
         assertEquals("token issue", entity.getSummary());
         assertEquals("RESOLVED", entity.getStatus());
     }
+
+    @Test
+    void lifecycleCallbacksStampCreatedAndUpdatedTimes() {
+        IncidentTicketEntity entity = new IncidentTicketEntity("TKT-7003", "payments-api", 4, "queue delay", "OPEN");
+        assertNull(entity.getCreatedAt());
+
+        entity.onCreate();
+        Instant createdAt = entity.getCreatedAt();
+        assertNotNull(createdAt);
+        assertEquals(createdAt, entity.getUpdatedAt());
+
+        entity.onUpdate();
+        assertEquals(createdAt, entity.getCreatedAt());
+        assertFalse(entity.getUpdatedAt().isBefore(createdAt));
+    }
 }
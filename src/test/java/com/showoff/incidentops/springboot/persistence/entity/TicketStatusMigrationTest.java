@@ -0,0 +1,77 @@
+package com.showoff.incidentops.springboot.persistence.entity;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TicketStatusMigrationTest {
+    @Test
+    void legacyStatusSynonyms_areMappedToTheirCodes() throws SQLException {
+        String url = "jdbc:h2:mem:status-migration-synonyms;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+        migrate(url, "11");
+        insertService(url);
+        insertTicket(url, "INC-1", "open");
+        insertTicket(url, "INC-2", " Acknowledged");
+        insertTicket(url, "INC-3", "CLOSED");
+
+        migrate(url, "12");
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT status FROM incident_tickets ORDER BY ticket_id")) {
+            assertTrue(rows.next());
+            assertEquals(1, rows.getShort(1));
+            assertTrue(rows.next());
+            assertEquals(2, rows.getShort(1));
+            assertTrue(rows.next());
+            assertEquals(4, rows.getShort(1));
+        }
+    }
+
+    @Test
+    void unknownLegacyStatus_failsTheMigration() throws SQLException {
+        String url = "jdbc:h2:mem:status-migration-unknown;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+        migrate(url, "11");
+        insertService(url);
+        insertTicket(url, "INC-1", "open");
+        insertTicket(url, "INC-2", "parked");
+
+        FlywayException failure = assertThrows(FlywayException.class, () -> migrate(url, "12"));
+
+        assertTrue(failure.getMessage().contains("unknown ticket status: parked"), failure.getMessage());
+    }
+
+    private static void migrate(String url, String target) {
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    private static void insertService(String url) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO services (name) VALUES ('checkout')");
+        }
+    }
+
+    private static void insertTicket(String url, String ticketId, String status) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO incident_tickets (ticket_id, service_key, severity, summary, status) "
+                    + "SELECT '" + ticketId + "', id, 3, 'legacy row', '" + status + "' FROM services WHERE name = 'checkout'");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.showoff.incidentops.springboot.persistence.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TicketStatusTest {
+    @Test
+    void transitionGraph_onlyMovesOneStepForward() {
+        assertTrue(TicketStatus.OPEN.canTransitionTo(TicketStatus.ACK));
+        assertTrue(TicketStatus.ACK.canTransitionTo(TicketStatus.RESOLVED));
+        assertTrue(TicketStatus.RESOLVED.canTransitionTo(TicketStatus.CLOSED));
+        assertFalse(TicketStatus.OPEN.canTransitionTo(TicketStatus.RESOLVED));
+        assertFalse(TicketStatus.ACK.canTransitionTo(TicketStatus.OPEN));
+        assertFalse(TicketStatus.CLOSED.canTransitionTo(TicketStatus.OPEN));
+        assertFalse(TicketStatus.OPEN.canTransitionTo(TicketStatus.OPEN));
+
+        assertEquals(List.of(), TicketStatus.OPEN.sources());
+        assertEquals(List.of(TicketStatus.ACK), TicketStatus.RESOLVED.sources());
+        assertTrue(TicketStatus.isKnown("RESOLVED"));
+        assertFalse(TicketStatus.isKnown("resolved"));
+        assertFalse(TicketStatus.isKnown(null));
+    }
+
+    @Test
+    void parseAndCodes_roundTripThroughConverter() {
+        TicketStatusConverter converter = new TicketStatusConverter();
+
+        assertEquals(TicketStatus.ACK, TicketStatus.parse(" ack "));
+        for (TicketStatus status : TicketStatus.values()) {
+            assertEquals(status, TicketStatus.fromCode(status.code()));
+            assertEquals(status.name(), converter.convertToEntityAttribute(converter.convertToDatabaseColumn(status.name())));
+        }
+        assertEquals((short) 3, converter.convertToDatabaseColumn("resolved"));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+
+        assertThrows(IllegalArgumentException.class, () -> TicketStatus.parse("PENDING"));
+        assertThrows(IllegalArgumentException.class, () -> TicketStatus.parse(" "));
+        assertThrows(IllegalArgumentException.class, () -> TicketStatus.fromCode((short) 9));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToDatabaseColumn("TRIAGE"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.showoff.incidentops.springboot.persistence.partition;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@SpringBootTest(
+    classes = com.showoff.incidentops.springboot.IncidentApiApplication.class,
+    properties = {"spring.main.web-application-type=none", "spring.main.banner-mode=off"}
+)
+class IncidentTicketPartitionManagerTest {
+    @Autowired
+    private IncidentTicketPartitionManager partitionManager;
+
+    @Test
+    void maintain_isNoOpWhenTableIsNotPartitioned() {
+        assertSame(TicketPartitionMaintenanceResult.SKIPPED, partitionManager.maintain(LocalDate.now()));
+        partitionManager.maintainScheduled();
+    }
+
+    @Test
+    void maintain_isNoOpWhenDisabled() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        IncidentTicketPartitionManager disabled = new IncidentTicketPartitionManager(
+            jdbcTemplate,
+            new TicketPartitionProperties(false, 3, 12)
+        );
+
+        assertSame(TicketPartitionMaintenanceResult.SKIPPED, disabled.maintain(LocalDate.now()));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void partitionName_andPropertiesValidation() {
+        assertEquals("incident_tickets_p202602", IncidentTicketPartitionManager.partitionName(YearMonth.of(2026, 2)));
+        assertThrows(IllegalArgumentException.class, () -> new TicketPartitionProperties(true, 0, 12));
+        assertThrows(IllegalArgumentException.class, () -> new TicketPartitionProperties(true, 3, 0));
+    }
+}
@@ -0,0 +1,153 @@
+package com.showoff.incidentops.springboot.persistence.partition;
+
+import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import com.showoff.incidentops.springboot.persistence.repository.IncidentTicketRepository;
+import com.showoff.incidentops.springboot.persistence.repository.ServiceDirectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(
+    classes = com.showoff.incidentops.springboot.IncidentApiApplication.class,
+    properties = {
+        "spring.main.web-application-type=none",
+        "spring.main.banner-mode=off",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "incidentops.ticket-partitions.premake-months=2",
+        "incidentops.ticket-partitions.retention-months=6"
+    }
+)
+class IncidentTicketPartitionTestcontainersTest {
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17")
+        .withDatabaseName("incidentops_test")
+        .withUsername("incidentops")
+        .withPassword("incidentops");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.flyway.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.flyway.user", POSTGRES::getUsername);
+        registry.add("spring.flyway.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private IncidentTicketPartitionManager partitionManager;
+
+    @Autowired
+    private IncidentTicketRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ServiceDirectory serviceDirectory;
+
+    @BeforeEach
+    void registerServices() {
+        serviceDirectory.register("payments-api");
+    }
+
+    @Test
+    void tickets_landInMonthlyPartitionsThatAgeOutAfterRetention() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        repository.save(new IncidentTicketEntity("TKT-8851", "payments-api", 4, "partition routing", "OPEN"));
+        assertEquals(
+            IncidentTicketPartitionManager.partitionName(current),
+            jdbcTemplate.queryForObject(
+                "select tableoid::regclass::text from incident_tickets where ticket_id = 'TKT-8851'",
+                String.class
+            )
+        );
+
+        LocalDate later = current.plusMonths(8).atDay(1);
+
+        TicketPartitionMaintenanceResult result = partitionManager.maintain(later);
+
+        assertTrue(result.created().contains(IncidentTicketPartitionManager.partitionName(current.plusMonths(10))));
+        assertTrue(result.dropped().contains(IncidentTicketPartitionManager.partitionName(current)));
+        List<String> remaining = jdbcTemplate.queryForList(
+            "select child.relname from pg_inherits i "
+                + "join pg_class parent on parent.oid = i.inhparent "
+                + "join pg_class child on child.oid = i.inhrelid "
+                + "where parent.relname = 'incident_tickets'",
+            String.class
+        );
+        assertFalse(remaining.contains(IncidentTicketPartitionManager.partitionName(current)));
+        assertTrue(remaining.contains("incident_tickets_default"));
+        assertTrue(repository.findByTicketId("TKT-8851").isEmpty());
+
+        assertEquals(
+            0,
+            jdbcTemplate.queryForObject("select count(*) from ticket_ids where ticket_id = 'TKT-8851'", Integer.class)
+        );
+
+        TicketPartitionMaintenanceResult rerun = partitionManager.maintain(later);
+        assertTrue(rerun.created().isEmpty());
+        assertTrue(rerun.dropped().isEmpty());
+    }
+
+    @Test
+    void ticketIds_stayUniqueAcrossPartitions() {
+        repository.save(new IncidentTicketEntity("TKT-8852", "payments-api", 3, "first", "OPEN"));
+
+        assertThrows(
+            DataIntegrityViolationException.class,
+            () -> jdbcTemplate.update(
+                "insert into incident_tickets (ticket_id, service_key, severity, summary, status, created_at) "
+                    + "select 'TKT-8852', service_key, 3, 'duplicate', 1, now() - interval '1 month' "
+                    + "from incident_tickets where ticket_id = 'TKT-8852'"
+            )
+        );
+        assertEquals(1, repository.findAll().stream().filter(ticket -> ticket.getTicketId().equals("TKT-8852")).count());
+    }
+
+    @Test
+    void retention_skipsWhileAnotherNodeHoldsTheLockAndDropsLeftoverDetachedTables() throws Exception {
+        YearMonth expired = YearMonth.now(ZoneOffset.UTC).minusMonths(20);
+        String name = IncidentTicketPartitionManager.partitionName(expired);
+        jdbcTemplate.execute("create table " + name + " (id bigint)");
+
+        try (Connection otherNode = dataSource.getConnection(); Statement statement = otherNode.createStatement()) {
+            statement.execute("select pg_advisory_lock(" + IncidentTicketPartitionManager.MAINTENANCE_LOCK_KEY + ")");
+            assertSame(TicketPartitionMaintenanceResult.SKIPPED, partitionManager.maintain(LocalDate.now(ZoneOffset.UTC)));
+            statement.execute("select pg_advisory_unlock(" + IncidentTicketPartitionManager.MAINTENANCE_LOCK_KEY + ")");
+        }
+
+        TicketPartitionMaintenanceResult result = partitionManager.maintain(LocalDate.now(ZoneOffset.UTC));
+
+        assertTrue(result.dropped().contains(name));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from pg_class where relname = ?", Integer.class, name));
+    }
+}
@@ -0,0 +1,140 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(
+    classes = com.showoff.incidentops.springboot.IncidentApiApplication.class,
+    properties = {
+        "spring.main.web-application-type=none",
+        "spring.main.banner-mode=off",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+    }
+)
+class IncidentTicketQueryPlanTestcontainersTest {
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17")
+        .withDatabaseName("incidentops_test")
+        .withUsername("incidentops")
+        .withPassword("incidentops");
+
+    @DynamicPropertySource
+    static void configureDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.flyway.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.flyway.user", POSTGRES::getUsername);
+        registry.add("spring.flyway.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void seedAndAnalyze() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("delete from incident_tickets");
+            statement.execute("delete from services");
+            statement.execute("""
+                insert into services (id, name)
+                select g, case when g = 0 then 'payments-api' else 'svc-' || g end
+                from generate_series(0, 49) g
+                """);
+            statement.execute("""
+                insert into incident_tickets (ticket_id, service_key, severity, summary, status)
+                select 'TKT-' || g,
+                       case when g % 10 = 0 then 0 else g % 50 end,
+                       1 + g % 5,
+                       'summary ' || g,
+                       case when g % 4 = 0 then 1 else 3 end
+                from generate_series(100000, 299999) g
+                """);
+            statement.execute("vacuum analyze services");
+            statement.execute("vacuum analyze incident_tickets");
+        }
+    }
+
+    @Test
+    void statusListing_usesCompositeStatusIndexOnly() throws SQLException {
+        String plan = explain("""
+            select ticket_id, service_key, severity, summary, status, version
+            from incident_tickets
+            where status = 1
+            order by severity desc, ticket_id asc
+            limit 20
+            """);
+
+        assertTrue(plan.contains("status_severity_ticket"), plan);
+        assertTrue(plan.contains("Index Only Scan"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void serviceSearch_usesServiceKeyIndexOnly() throws SQLException {
+        String plan = explain("""
+            select ticket_id, service_key, severity, summary, status, version
+            from incident_tickets
+            where service_key = 0
+              and severity >= 3
+            order by severity desc, ticket_id asc
+            limit 20
+            """);
+
+        assertTrue(plan.contains("service_severity_ticket"), plan);
+        assertTrue(plan.contains("Index Only Scan"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void recentStatusListing_prunesPartitionsOutsideWindow() throws SQLException {
+        LocalDate monthStart = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+        String plan = explain("""
+            select ticket_id, service_key, severity, summary, status, version
+            from incident_tickets
+            where status = 1
+              and created_at >= timestamptz '%s 00:00:00+00'
+            order by created_at desc, ticket_id asc
+            limit 20
+            """.formatted(monthStart));
+
+        assertTrue(plan.contains("incident_tickets_p" + monthStart.format(DateTimeFormatter.ofPattern("yyyyMM"))), plan);
+        assertFalse(plan.contains("incident_tickets_default"), plan);
+        assertFalse(plan.contains("incident_tickets_p" + monthStart.minusMonths(1).format(DateTimeFormatter.ofPattern("yyyyMM"))), plan);
+    }
+
+    private String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("explain " + sql)) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -1,13 +1,27 @@
 package com.showoff.incidentops.springboot.persistence.repository;
 
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsGroup;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusCount;
 import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(
@@ -18,6 +32,30 @@ class IncidentTicketRepositoryTest {
     @Autowired
     private IncidentTicketRepository repository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ServiceDirectory serviceDirectory;
+
+    @BeforeEach
+    void registerServices() {
+        Stream.of(
+            "payments-api",
+            "billing-api",
+            "ledger-api",
+            "ingest-api",
+            "search-api",
+            "mail-api",
+            "audit-api",
+            "stats-api",
+            "feed-api",
+            "relay-api",
+            "export-api",
+            "codes-api"
+        ).forEach(serviceDirectory::register);
+    }
+
     @Test
     void findByTicketId_returnsSavedEntity() {
         IncidentTicketEntity saved = repository.save(
@@ -33,27 +71,224 @@ class IncidentTicketRepositoryTest {
     }
 
     @Test
-    void pagingAndCustomQueries_returnExpectedSlices() {
-        repository.save(new IncidentTicketEntity("TKT-7101", "payments-api", 5, "db outage", "OPEN"));
-        repository.save(new IncidentTicketEntity("TKT-7102", "identity-api", 3, "token issue", "OPEN"));
-        repository.save(new IncidentTicketEntity("TKT-7103", "payments-api", 4, "queue delay", "OPEN"));
-        repository.save(new IncidentTicketEntity("TKT-7104", "payments-api", 2, "minor alert", "RESOLVED"));
+    void keysetQueries_seekPastLastSeenKey() {
+        repository.save(new IncidentTicketEntity("TKT-7201", "billing-api", 5, "db outage", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-7202", "billing-api", 4, "queue delay", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-7203", "billing-api", 4, "slow checkout", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-7204", "billing-api", 2, "minor alert", "ACK"));
+
+        Slice<IncidentTicketResponse> first = repository.findKeysetByStatus("ACK", PageRequest.of(0, 2));
+        assertEquals(2, first.getContent().size());
+        assertTrue(first.hasNext());
+        assertEquals("TKT-7202", first.getContent().get(1).ticketId());
+
+        Slice<IncidentTicketResponse> second = repository.findKeysetByStatusAfter("ACK", 4, "TKT-7202", PageRequest.of(0, 2));
+        assertEquals(2, second.getContent().size());
+        assertFalse(second.hasNext());
+        assertEquals("TKT-7203", second.getContent().get(0).ticketId());
+        assertEquals("TKT-7204", second.getContent().get(1).ticketId());
+
+        Slice<IncidentTicketResponse> search = repository.findKeysetByServiceAndMinSeverity("BILLING-API", 4, PageRequest.of(0, 1));
+        assertEquals("TKT-7201", search.getContent().get(0).ticketId());
+        assertTrue(search.hasNext());
+
+        Slice<IncidentTicketResponse> searchNext = repository.findKeysetByServiceAndMinSeverityAfter(
+            "billing-api",
+            4,
+            5,
+            "TKT-7201",
+            PageRequest.of(0, 5)
+        );
+        assertEquals(2, searchNext.getContent().size());
+        assertFalse(searchNext.hasNext());
+    }
+
+    @Test
+    void responseProjections_readColumnsWithoutLoadingEntities() {
+        repository.save(new IncidentTicketEntity("TKT-7501", "ledger-api", 5, "ledger outage", "CLOSED"));
+        repository.save(new IncidentTicketEntity("TKT-7502", "ledger-api", 3, "ledger delay", "CLOSED"));
 
-        Page<IncidentTicketEntity> openPage = repository.findByStatusOrderBySeverityDescTicketIdAsc(
-            "OPEN",
-            PageRequest.of(0, 2)
+        IncidentTicketResponse single = repository.findResponseByTicketId("TKT-7501").orElseThrow();
+        assertEquals(new IncidentTicketResponse("TKT-7501", "ledger-api", 5, "ledger outage", "CLOSED", 0), single);
+        assertTrue(repository.findResponseByTicketId("TKT-0000").isEmpty());
+
+        Page<IncidentTicketResponse> byStatus = repository.findResponsesByStatus("CLOSED", PageRequest.of(0, 100));
+        assertEquals(
+            List.of("TKT-7501", "TKT-7502"),
+            byStatus.getContent().stream()
+                .filter(ticket -> ticket.serviceId().equals("ledger-api"))
+                .map(IncidentTicketResponse::ticketId)
+                .toList()
         );
-        assertEquals(2, openPage.getContent().size());
-        assertEquals("TKT-7101", openPage.getContent().get(0).getTicketId());
-        assertEquals(3, openPage.getTotalElements());
 
-        Page<IncidentTicketEntity> searchPage = repository.findByServiceAndMinSeverity(
-            "PAYMENTS-API",
+        Page<IncidentTicketResponse> search = repository.findResponsesByServiceAndMinSeverity(
+            "LEDGER-API",
             4,
-            PageRequest.of(0, 10)
+            PageRequest.of(0, 5)
+        );
+        assertEquals(1, search.getTotalElements());
+        assertEquals("ledger outage", search.getContent().get(0).summary());
+    }
+
+    @Test
+    void insertAll_writesTicketsWithBatchedStatements() {
+        repository.insertAll(List.of(
+            new IncidentTicketEntity("TKT-7301", "ingest-api", 3, "monitor alert", "OPEN"),
+            new IncidentTicketEntity("TKT-7302", "ingest-api", 5, "monitor outage", "OPEN")
+        ));
+        repository.insertAll(List.of());
+
+        IncidentTicketEntity stored = repository.findByTicketId("TKT-7302").orElseThrow();
+        assertTrue(stored.getId() != null);
+        assertEquals("ingest-api", stored.getServiceId());
+        assertEquals(5, stored.getSeverity());
+    }
+
+    @Test
+    void bulkStatusUpdates_changeMatchingRowsInSingleStatement() {
+        repository.save(new IncidentTicketEntity("TKT-7401", "search-api", 4, "slow query", "OPEN"));
+        repository.save(new IncidentTicketEntity("TKT-7402", "search-api", 3, "index lag", "OPEN"));
+        repository.save(new IncidentTicketEntity("TKT-7403", "search-api", 2, "minor alert", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-7404", "mail-api", 2, "bounce spike", "OPEN"));
+
+        assertEquals(2, repository.updateStatusByTicketIds(List.of("TKT-7401", "TKT-7402"), List.of("OPEN"), "ACK"));
+        assertEquals(1, repository.updateStatusByTicketIds(
+            List.of("TKT-7403", "TKT-7404", "TKT-0000"),
+            List.of("ACK"),
+            "RESOLVED"
+        ));
+
+        assertEquals("ACK", repository.findByTicketId("TKT-7401").orElseThrow().getStatus());
+        assertEquals("ACK", repository.findByTicketId("TKT-7402").orElseThrow().getStatus());
+        assertEquals("RESOLVED", repository.findByTicketId("TKT-7403").orElseThrow().getStatus());
+        assertEquals("OPEN", repository.findByTicketId("TKT-7404").orElseThrow().getStatus());
+    }
+
+    @Test
+    void countByStatus_groupsTicketsPerStatus() {
+        long before = closedCount();
+        repository.save(new IncidentTicketEntity("TKT-7601", "audit-api", 2, "log gap", "CLOSED"));
+        repository.save(new IncidentTicketEntity("TKT-7602", "audit-api", 3, "log delay", "CLOSED"));
+
+        assertEquals(before + 2, closedCount());
+    }
+
+    @Test
+    void statsQueries_groupByServiceSeverityAndStatus() {
+        repository.save(new IncidentTicketEntity("TKT-7611", "stats-api", 4, "stats lag", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-7612", "stats-api", 4, "stats gap", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-7613", "stats-api", 2, "stats noise", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-7614", "stats-api", 4, "stats fixed", "CLOSED"));
+
+        assertEquals(
+            List.of(
+                new TicketStatsGroup("stats-api", 4, "ACK", 2),
+                new TicketStatsGroup("stats-api", 2, "ACK", 1)
+            ),
+            repository.countGroupedByServiceSeverityForStatus("ACK").stream()
+                .filter(group -> group.serviceId().equals("stats-api"))
+                .toList()
+        );
+        assertEquals(
+            List.of(
+                new TicketStatsGroup("stats-api", 4, "ACK", 2),
+                new TicketStatsGroup("stats-api", 4, "CLOSED", 1),
+                new TicketStatsGroup("stats-api", 2, "ACK", 1)
+            ),
+            repository.countGroupedByServiceSeverityStatus().stream()
+                .filter(group -> group.serviceId().equals("stats-api"))
+                .toList()
+        );
+    }
+
+    @Test
+    void findRecentByStatus_filtersOnCreatedAtWindow() {
+        IncidentTicketEntity saved = repository.save(
+            new IncidentTicketEntity("TKT-7701", "feed-api", 3, "feed lag", "RESOLVED")
+        );
+        assertTrue(saved.getCreatedAt() != null);
+        assertEquals(saved.getCreatedAt(), saved.getUpdatedAt());
+
+        Slice<IncidentTicketResponse> recent = repository.findRecentByStatus(
+            "RESOLVED",
+            Instant.now().minus(Duration.ofDays(1)),
+            PageRequest.of(0, 100)
+        );
+        assertEquals(
+            List.of("TKT-7701"),
+            recent.getContent().stream()
+                .filter(ticket -> ticket.serviceId().equals("feed-api"))
+                .map(IncidentTicketResponse::ticketId)
+                .toList()
+        );
+
+        assertTrue(repository.findRecentByStatus(
+            "RESOLVED",
+            Instant.now().plus(Duration.ofHours(1)),
+            PageRequest.of(0, 5)
+        ).isEmpty());
+    }
+
+    @Test
+    void searchBySummary_matchesAllTermsAndSeeksPastCursor() {
+        repository.save(new IncidentTicketEntity("TKT-7801", "relay-api", 4, "Zephyr relay timeout", "OPEN"));
+        repository.save(new IncidentTicketEntity("TKT-7802", "relay-api", 3, "zephyr relay backlog", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-7803", "relay-api", 2, "zephyr_cache 100% miss", "OPEN"));
+
+        List<IncidentTicketSearchHit> first = repository.searchBySummary("ZEPHYR relay", null, null, 1);
+        assertEquals(1, first.size());
+        assertEquals("TKT-7801", first.get(0).ticket().ticketId());
+
+        List<IncidentTicketSearchHit> rest = repository.searchBySummary(
+            "zephyr relay",
+            first.get(0).rank(),
+            first.get(0).ticket().ticketId(),
+            5
+        );
+        assertEquals(List.of("TKT-7802"), rest.stream().map(hit -> hit.ticket().ticketId()).toList());
+
+        assertEquals(1, repository.searchBySummary("100%", null, null, 5).size());
+        assertEquals(1, repository.searchBySummary("zephyr_", null, null, 5).size());
+        assertThrows(IllegalArgumentException.class, () -> repository.searchBySummary(" ", null, null, 5));
+        assertThrows(IllegalArgumentException.class, () -> repository.searchBySummary("zephyr", null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> repository.searchBySummary("zephyr", 1f, null, 5));
+    }
+
+    @Test
+    @Transactional(readOnly = true)
+    void streamResponsesByStatus_readsRowsInListOrder() {
+        repository.save(new IncidentTicketEntity("TKT-7901", "export-api", 2, "export lag", "CLOSED"));
+        repository.save(new IncidentTicketEntity("TKT-7902", "export-api", 5, "export outage", "CLOSED"));
+
+        try (Stream<IncidentTicketResponse> rows = repository.streamResponsesByStatus("CLOSED")) {
+            assertEquals(
+                List.of("TKT-7902", "TKT-7901"),
+                rows.filter(ticket -> ticket.serviceId().equals("export-api"))
+                    .map(IncidentTicketResponse::ticketId)
+                    .toList()
+            );
+        }
+    }
+
+    @Test
+    void statusColumn_storesCompactCodesAndRejectsUnknownStatuses() {
+        repository.save(new IncidentTicketEntity("TKT-7951", "codes-api", 3, "code check", "RESOLVED"));
+
+        assertEquals(
+            (short) 3,
+            jdbcTemplate.queryForObject("select status from incident_tickets where ticket_id = ?", Short.class, "TKT-7951")
+        );
+        assertThrows(
+            RuntimeException.class,
+            () -> repository.save(new IncidentTicketEntity("TKT-7952", "codes-api", 3, "bad status", "PARKED"))
         );
-        assertEquals(2, searchPage.getContent().size());
-        assertEquals("TKT-7101", searchPage.getContent().get(0).getTicketId());
-        assertEquals("TKT-7103", searchPage.getContent().get(1).getTicketId());
+        assertTrue(repository.findByTicketId("TKT-7952").isEmpty());
+    }
+
+    private long closedCount() {
+        return repository.countByStatus().stream()
+            .filter(count -> count.status().equals("CLOSED"))
+            .mapToLong(TicketStatusCount::count)
+            .sum();
     }
 }
@@ -1,6 +1,9 @@
 package com.showoff.incidentops.springboot.persistence.repository;
 
+import com.showoff.incidentops.springboot.persistence.dto.TicketTransitionResponse;
 import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import com.showoff.incidentops.springboot.persistence.repository.TicketTransitionRepository.LockedTicket;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -10,7 +13,11 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Testcontainers(disabledWithoutDocker = true)
@@ -44,6 +51,17 @@ class IncidentTicketRepositoryTestcontainersTest {
     @Autowired
     private IncidentTicketRepository repository;
 
+    @Autowired
+    private ServiceDirectory serviceDirectory;
+
+    @Autowired
+    private TicketTransitionRepository transitions;
+
+    @BeforeEach
+    void registerServices() {
+        Stream.of("payments-api", "search-api").forEach(serviceDirectory::register);
+    }
+
     @Test
     void repository_worksAgainstRealPostgresContainer() {
         IncidentTicketEntity saved = repository.save(
@@ -56,4 +74,54 @@ class IncidentTicketRepositoryTestcontainersTest {
         assertEquals(5, fetched.getSeverity());
         assertEquals("OPEN", fetched.getStatus());
     }
+
+    @Test
+    void ticketNumberSequence_reservesDisjointBlocksPerCall() {
+        long firstBlock = repository.nextTicketNumberBlock();
+        long secondBlock = repository.nextTicketNumberBlock();
+
+        assertNotEquals(firstBlock, secondBlock);
+        assertEquals(50, secondBlock - firstBlock);
+    }
+
+    @Test
+    void searchBySummary_ranksFullTextMatchesFromGeneratedVector() {
+        repository.save(new IncidentTicketEntity("TKT-8901", "search-api", 4, "Checkout timeouts after deploy", "OPEN"));
+        repository.save(new IncidentTicketEntity("TKT-8902", "search-api", 3, "checkout timeout, checkout retries timing out", "OPEN"));
+        repository.save(new IncidentTicketEntity("TKT-8903", "search-api", 2, "login latency", "OPEN"));
+
+        List<IncidentTicketSearchHit> hits = repository.searchBySummary("checkout timeout", null, null, 10);
+        assertEquals(List.of("TKT-8902", "TKT-8901"), hits.stream().map(hit -> hit.ticket().ticketId()).toList());
+        assertTrue(hits.get(0).rank() > hits.get(1).rank());
+
+        List<IncidentTicketSearchHit> next = repository.searchBySummary(
+            "checkout timeout",
+            hits.get(0).rank(),
+            hits.get(0).ticket().ticketId(),
+            10
+        );
+        assertEquals(List.of("TKT-8901"), next.stream().map(hit -> hit.ticket().ticketId()).toList());
+        assertTrue(repository.searchBySummary("checkout -deploy", null, null, 10).stream()
+            .noneMatch(hit -> hit.ticket().ticketId().equals("TKT-8901")));
+    }
+
+    @Test
+    void moveByServiceAndStatus_updatesAndRecordsTheSetInOneStatement() {
+        repository.save(new IncidentTicketEntity("TKT-8951", "payments-api", 3, "card declines", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-8952", "payments-api", 2, "refund lag", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-8953", "payments-api", 2, "payout delay", "OPEN"));
+
+        assertTrue(transitions.supportsSetBasedMoves());
+        List<LockedTicket> moved = transitions.moveByServiceAndStatus("Payments-API", "ack", "resolved");
+
+        assertEquals(List.of("TKT-8951", "TKT-8952"), moved.stream().map(LockedTicket::ticketId).toList());
+        assertEquals("payments-api", moved.get(0).serviceId());
+        assertEquals("ACK", moved.get(0).status());
+        assertEquals("RESOLVED", repository.findByTicketId("TKT-8951").orElseThrow().getStatus());
+        assertEquals("OPEN", repository.findByTicketId("TKT-8953").orElseThrow().getStatus());
+        TicketTransitionResponse recorded = transitions.findByTicketId("TKT-8952").getLast();
+        assertEquals("ACK", recorded.fromStatus());
+        assertEquals("RESOLVED", recorded.toStatus());
+        assertEquals(moved.get(1).version() + 1, recorded.version());
+    }
 }
@@ -0,0 +1,113 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+    classes = com.showoff.incidentops.springboot.IncidentApiApplication.class,
+    properties = {"spring.main.web-application-type=none", "spring.main.banner-mode=off"}
+)
+class ServiceDirectoryTest {
+    @Autowired
+    private ServiceDirectory serviceDirectory;
+
+    @Autowired
+    private IncidentTicketRepository tickets;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void register_isIdempotentAndCaseInsensitive() {
+        int id = serviceDirectory.register(" Directory-API ");
+
+        assertEquals(id, serviceDirectory.register("directory-api"));
+        assertEquals(id, serviceDirectory.findId("DIRECTORY-API").orElseThrow());
+        assertEquals("directory-api", serviceDirectory.nameOf(id));
+        assertEquals(1, countServices("directory-api"));
+    }
+
+    @Test
+    void findId_neverRegistersUnknownServices() {
+        assertTrue(serviceDirectory.findId("unregistered-api").isEmpty());
+        assertEquals(0, countServices("unregistered-api"));
+    }
+
+    @Test
+    void ticketsStoreServiceKeyAndReadBackServiceName() {
+        serviceDirectory.register("directory-tickets-api");
+        tickets.save(new IncidentTicketEntity("TKT-6801", "Directory-Tickets-Api", 3, "key lookup", "OPEN"));
+
+        Integer storedKey = jdbcTemplate.queryForObject(
+            "select service_key from incident_tickets where ticket_id = ?",
+            Integer.class,
+            "TKT-6801"
+        );
+        assertEquals(serviceDirectory.findId("directory-tickets-api").orElseThrow(), storedKey);
+        assertEquals("directory-tickets-api", tickets.findByTicketId("TKT-6801").orElseThrow().getServiceId());
+    }
+
+    @Test
+    void ticketWrites_neverRegisterUnknownServices() {
+        assertThrows(
+            RuntimeException.class,
+            () -> tickets.save(new IncidentTicketEntity("TKT-6802", "unregistered-write-api", 3, "no key", "OPEN"))
+        );
+        assertThrows(IllegalArgumentException.class, () -> tickets.insertAll(List.of(
+            new IncidentTicketEntity("TKT-6803", "unregistered-write-api", 3, "no key", "OPEN")
+        )));
+        assertEquals(0, countServices("unregistered-write-api"));
+    }
+
+    @Test
+    void register_joinsTheCallerTransactionAndIsForgottenOnRollback() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            int id = serviceDirectory.register("rolled-back-api");
+            assertEquals(id, serviceDirectory.findId("rolled-back-api").orElseThrow());
+            assertEquals("rolled-back-api", serviceDirectory.nameOf(id));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, countServices("rolled-back-api"));
+        assertTrue(serviceDirectory.findId("rolled-back-api").isEmpty());
+    }
+
+    @Test
+    void invalidNamesAndKeys_areRejected() {
+        assertThrows(IllegalArgumentException.class, () -> serviceDirectory.register(" "));
+        assertThrows(IllegalArgumentException.class, () -> serviceDirectory.findId(null));
+        assertThrows(IllegalArgumentException.class, () -> serviceDirectory.register("x".repeat(65)));
+        assertThrows(IllegalArgumentException.class, () -> serviceDirectory.requireId("unregistered-api"));
+        assertThrows(DataRetrievalFailureException.class, () -> serviceDirectory.nameOf(2_000_000));
+        assertEquals(0, countServices(" "));
+    }
+
+    @Test
+    void register_acceptsAnyNameWithinTheLengthLimit() {
+        int id = serviceDirectory.register(" Edge Proxy/EU:443@ops ");
+
+        assertEquals("edge proxy/eu:443@ops", serviceDirectory.nameOf(id));
+        assertEquals(id, serviceDirectory.requireId("EDGE PROXY/EU:443@OPS"));
+    }
+
+    private int countServices(String name) {
+        return jdbcTemplate.queryForObject("select count(*) from services where name = ?", Integer.class, name);
+    }
+}
@@ -0,0 +1,59 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+    classes = com.showoff.incidentops.springboot.IncidentApiApplication.class,
+    properties = {"spring.main.web-application-type=none", "spring.main.banner-mode=off"}
+)
+class TicketOutboxRepositoryTest {
+    @Autowired
+    private TicketOutboxRepository outbox;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ServiceDirectory serviceDirectory;
+
+    @BeforeEach
+    void setUp() {
+        serviceDirectory.register("outbox-api");
+        jdbcTemplate.update("delete from incident_ticket_outbox");
+    }
+
+    @Test
+    void appendLockAndDelete_relayEventsInInsertOrder() {
+        outbox.appendTicketCreated(List.of(
+            new IncidentTicketEntity("TKT-6601", "outbox-api", 4, "queue delay", "OPEN"),
+            new IncidentTicketEntity("TKT-6602", "outbox-api", 2, "minor alert", "OPEN")
+        ));
+        outbox.appendTicketCreated(List.of());
+
+        List<TicketOutboxEvent> batch = outbox.lockNextBatch(1);
+        assertEquals(1, batch.size());
+        assertEquals(TicketOutboxRepository.TICKET_CREATED, batch.get(0).eventType());
+        assertEquals("TKT-6601", batch.get(0).ticketId());
+        assertEquals("outbox-api", batch.get(0).serviceId());
+        assertEquals(4, batch.get(0).severity());
+        assertTrue(batch.get(0).createdAt() != null);
+
+        assertEquals(1, outbox.deleteByIds(List.of(batch.get(0).id())));
+        assertEquals(0, outbox.deleteByIds(List.of()));
+        assertEquals(List.of("TKT-6602"), outbox.lockNextBatch(10).stream().map(TicketOutboxEvent::ticketId).toList());
+
+        assertThrows(IllegalArgumentException.class, () -> outbox.appendTicketCreated(null));
+        assertThrows(IllegalArgumentException.class, () -> outbox.lockNextBatch(0));
+    }
+}
@@ -0,0 +1,137 @@
+package com.showoff.incidentops.springboot.persistence.repository;
+
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusDuration;
+import com.showoff.incidentops.springboot.persistence.dto.TicketTransitionResponse;
+import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import com.showoff.incidentops.springboot.persistence.entity.TicketStatus;
+import com.showoff.incidentops.springboot.persistence.repository.TicketTransitionRepository.LockedTicket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+    classes = com.showoff.incidentops.springboot.IncidentApiApplication.class,
+    properties = {"spring.main.web-application-type=none", "spring.main.banner-mode=off"}
+)
+class TicketTransitionRepositoryTest {
+    @Autowired
+    private TicketTransitionRepository transitions;
+
+    @Autowired
+    private IncidentTicketRepository tickets;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ServiceDirectory serviceDirectory;
+
+    @BeforeEach
+    void registerServices() {
+        serviceDirectory.register("bulk-history-api");
+    }
+
+    @Test
+    void appendAndFindByTicketId_returnHistoryInChangeOrder() {
+        transitions.appendCreated(List.of(new IncidentTicketEntity("TKT-6701", "history-api", 4, "queue delay", "OPEN")));
+        transitions.appendCreated(List.of());
+        transitions.append("TKT-6701", "OPEN", "ACK", 1);
+
+        List<TicketTransitionResponse> history = transitions.findByTicketId("TKT-6701");
+
+        assertEquals(2, history.size());
+        assertNull(history.get(0).fromStatus());
+        assertEquals("OPEN", history.get(0).toStatus());
+        assertEquals(0, history.get(0).version());
+        assertEquals("OPEN", history.get(1).fromStatus());
+        assertEquals("ACK", history.get(1).toStatus());
+        assertEquals(1, history.get(1).version());
+        assertTrue(!history.get(1).changedAt().isBefore(history.get(0).changedAt()));
+        assertThrows(IllegalArgumentException.class, () -> transitions.appendCreated(null));
+    }
+
+    @Test
+    void bulkAppends_recordOnlyLockedRowsInAllowedSourceStatus() {
+        tickets.save(new IncidentTicketEntity("TKT-6711", "bulk-history-api", 3, "slow query", "OPEN"));
+        tickets.save(new IncidentTicketEntity("TKT-6712", "bulk-history-api", 2, "index lag", "RESOLVED"));
+        tickets.save(new IncidentTicketEntity("TKT-6713", "bulk-history-api", 2, "minor alert", "ACK"));
+
+        List<LockedTicket> byIds = transitions.lockByTicketIds(Set.of("TKT-6711", "TKT-6712", "TKT-6713"), List.of("ACK"));
+        assertEquals(List.of(new LockedTicket("TKT-6713", "bulk-history-api", "ACK", 0)), byIds);
+        assertTrue(transitions.lockByTicketIds(Set.of(), List.of("ACK")).isEmpty());
+        assertTrue(transitions.lockByTicketIds(Set.of("TKT-6711"), List.of()).isEmpty());
+        transitions.appendBulk(byIds, "RESOLVED");
+
+        List<LockedTicket> byService = transitions.lockByServiceAndStatus("BULK-HISTORY-API", "OPEN");
+        assertEquals(List.of(new LockedTicket("TKT-6711", "bulk-history-api", "OPEN", 0)), byService);
+        assertTrue(transitions.lockByServiceAndStatus("ghost-history-api", "OPEN").isEmpty());
+        transitions.appendBulk(byService, "ACK");
+        transitions.appendBulk(List.of(), "ACK");
+        assertThrows(IllegalArgumentException.class, () -> transitions.appendBulk(null, "ACK"));
+        assertFalse(transitions.supportsSetBasedMoves());
+        assertThrows(
+            IllegalStateException.class,
+            () -> transitions.moveByServiceAndStatus("bulk-history-api", "ACK", "RESOLVED")
+        );
+
+        TicketTransitionResponse acknowledged = transitions.findByTicketId("TKT-6711").get(0);
+        assertEquals("OPEN", acknowledged.fromStatus());
+        assertEquals("ACK", acknowledged.toStatus());
+        assertEquals(1, acknowledged.version());
+        TicketTransitionResponse resolved = transitions.findByTicketId("TKT-6713").get(0);
+        assertEquals("ACK", resolved.fromStatus());
+        assertEquals("RESOLVED", resolved.toStatus());
+        assertTrue(transitions.findByTicketId("TKT-6712").isEmpty());
+    }
+
+    @Test
+    void timeInStatus_sumsIntervalsBetweenConsecutiveTransitions() {
+        insertAt("TKT-6721", null, "OPEN", "2026-03-01T10:00:00Z");
+        insertAt("TKT-6721", "OPEN", "ACK", "2026-03-01T10:05:00Z");
+        insertAt("TKT-6721", "ACK", "OPEN", "2026-03-01T10:06:00Z");
+        insertAt("TKT-6721", "OPEN", "RESOLVED", "2026-03-01T10:16:00Z");
+        insertAt("TKT-6722", null, "OPEN", "2026-03-01T11:00:00Z");
+
+        List<TicketStatusDuration> durations = transitions.timeInStatus(
+            List.of("TKT-6721", "TKT-6722"),
+            Instant.parse("2026-03-01T12:00:00Z")
+        );
+
+        assertEquals(
+            List.of(
+                new TicketStatusDuration("TKT-6721", "OPEN", 900),
+                new TicketStatusDuration("TKT-6721", "ACK", 60),
+                new TicketStatusDuration("TKT-6721", "RESOLVED", 6240),
+                new TicketStatusDuration("TKT-6722", "OPEN", 3600)
+            ),
+            durations
+        );
+        assertTrue(transitions.timeInStatus(List.of(), Instant.now()).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> transitions.timeInStatus(List.of("TKT-6721"), null));
+    }
+
+    private void insertAt(String ticketId, String fromStatus, String toStatus, String changedAt) {
+        jdbcTemplate.update(
+            "insert into incident_ticket_transitions (ticket_id, from_status, to_status, ticket_version, changed_at) "
+                + "values (?, ?, ?, 0, ?)",
+            ticketId,
+            fromStatus == null ? null : TicketStatus.parse(fromStatus).code(),
+            TicketStatus.parse(toStatus).code(),
+            OffsetDateTime.ofInstant(Instant.parse(changedAt), ZoneOffset.UTC)
+        );
+    }
+}
@@ -0,0 +1,142 @@
+package com.showoff.incidentops.springboot.persistence.routing;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ReadReplicaRoutingPostProcessorTest {
+    @Test
+    void postProcess_leavesDataSourceUntouchedWhenDisabled() throws Exception {
+        ReadReplicaRoutingPostProcessor postProcessor = new ReadReplicaRoutingPostProcessor(
+            new MockEnvironment(),
+            new StaticListableBeanFactory().getBeanProvider(IncidentOpsProperties.class),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)
+        );
+        DataSource primary = mock(DataSource.class);
+
+        assertSame(primary, postProcessor.postProcessAfterInitialization(primary, "dataSource"));
+        assertSame("other", postProcessor.postProcessAfterInitialization("other", "dataSource"));
+        postProcessor.destroy();
+    }
+
+    @Test
+    void postProcess_wrapsPrimaryWithReadOnlyReplicaRouting() throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("incidentops.read-replicas.enabled", "true")
+            .withProperty("incidentops.read-replicas.max-lag", "2s")
+            .withProperty("incidentops.read-replicas.replicas[0].url", "jdbc:postgresql://replica-1:5432/incidentops")
+            .withProperty("incidentops.read-replicas.replicas[0].username", "reader")
+            .withProperty("incidentops.read-replicas.replicas[0].password", "secret");
+        ReadReplicaRoutingPostProcessor postProcessor = new ReadReplicaRoutingPostProcessor(
+            environment,
+            new StaticListableBeanFactory().getBeanProvider(IncidentOpsProperties.class),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)
+        );
+        DataSource primary = mock(DataSource.class);
+
+        assertSame(primary, postProcessor.postProcessAfterInitialization(primary, "auditDataSource"));
+        Object routed = postProcessor.postProcessAfterInitialization(primary, "dataSource");
+
+        LazyConnectionDataSourceProxy proxy = assertInstanceOf(LazyConnectionDataSourceProxy.class, routed);
+        assertSame(primary, proxy.getTargetDataSource());
+        postProcessor.destroy();
+    }
+
+    @Test
+    void replicaPool_appliesPersistenceTuningUnderTheReplicaSizeCap() {
+        ReadReplicaProperties properties = new ReadReplicaProperties(
+            true,
+            List.of(new ReadReplicaProperties.Replica("jdbc:postgresql://replica-1:5432/incidentops", "reader", "secret")),
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5),
+            4
+        );
+        IncidentOpsProperties.Persistence tuning =
+            new IncidentOpsProperties.Persistence(24, 8, Duration.ofSeconds(2), true, 3, 128, 50, true, true);
+
+        try (HikariDataSource replica = ReadReplicaRoutingPostProcessor.replicaPool(
+            properties,
+            0,
+            tuning,
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)
+        )) {
+            assertEquals("incidentops-replica-0", replica.getPoolName());
+            assertEquals(4, replica.getMaximumPoolSize());
+            assertEquals(4, replica.getMinimumIdle());
+            assertEquals(2000, replica.getConnectionTimeout());
+            assertTrue(replica.isReadOnly());
+            assertEquals("3", replica.getDataSourceProperties().getProperty("prepareThreshold"));
+            assertEquals("128", replica.getDataSourceProperties().getProperty("preparedStatementCacheQueries"));
+        }
+    }
+
+    @Test
+    void replicaPool_reportsHikariMetricsOnceStarted() throws Exception {
+        ReadReplicaProperties properties = new ReadReplicaProperties(
+            true,
+            List.of(new ReadReplicaProperties.Replica("jdbc:h2:mem:replica-metrics", "sa", "")),
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5),
+            2
+        );
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+
+        try (HikariDataSource replica = ReadReplicaRoutingPostProcessor.replicaPool(
+            properties,
+            0,
+            IncidentOpsProperties.Persistence.DEFAULTS,
+            beanFactory.getBeanProvider(MeterRegistry.class)
+        )) {
+            assertNull(registry.find("hikaricp.connections").gauge());
+            try (Connection ignored = replica.getConnection()) {
+                assertNotNull(registry.find("hikaricp.connections").tag("pool", "incidentops-replica-0").gauge());
+            }
+        }
+    }
+
+    @Test
+    void properties_validateReplicaSettings() {
+        ReadReplicaProperties defaults = new ReadReplicaProperties(false, null, Duration.ofSeconds(5), Duration.ZERO, 4);
+        assertTrue(defaults.replicas().isEmpty());
+        assertEquals(4, defaults.maximumPoolSize());
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ReadReplicaProperties(true, List.of(), Duration.ZERO, Duration.ZERO, 1)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ReadReplicaProperties(false, List.of(), null, Duration.ZERO, 1)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ReadReplicaProperties(false, List.of(), Duration.ZERO, Duration.ofSeconds(-1), 1)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ReadReplicaProperties(false, List.of(), Duration.ZERO, Duration.ZERO, 0)
+        );
+        assertThrows(IllegalArgumentException.class, () -> new ReadReplicaProperties.Replica(" ", "u", "p"));
+    }
+}
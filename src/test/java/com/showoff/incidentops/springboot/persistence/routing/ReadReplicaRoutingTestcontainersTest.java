@@ -0,0 +1,127 @@
+package com.showoff.incidentops.springboot.persistence.routing;
+
+import com.showoff.incidentops.springboot.persistence.dto.CreateIncidentTicketRequest;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.service.IncidentTicketCommandService;
+import com.showoff.incidentops.springboot.persistence.service.IncidentTicketQueryService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(
+    classes = com.showoff.incidentops.springboot.IncidentApiApplication.class,
+    properties = {
+        "spring.main.web-application-type=none",
+        "spring.main.banner-mode=off",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "incidentops.read-replicas.enabled=true",
+        "incidentops.read-replicas.max-lag=5s",
+        "incidentops.read-replicas.lag-check-interval=1s"
+    }
+)
+class ReadReplicaRoutingTestcontainersTest {
+    @Container
+    static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:17")
+        .withDatabaseName("incidentops_test")
+        .withUsername("incidentops")
+        .withPassword("incidentops");
+
+    @Container
+    static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:17")
+        .withDatabaseName("incidentops_test")
+        .withUsername("incidentops")
+        .withPassword("incidentops");
+
+    @DynamicPropertySource
+    static void configureDatasources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.datasource.username", PRIMARY::getUsername);
+        registry.add("spring.datasource.password", PRIMARY::getPassword);
+        registry.add("spring.datasource.driver-class-name", PRIMARY::getDriverClassName);
+        registry.add("spring.flyway.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.flyway.user", PRIMARY::getUsername);
+        registry.add("spring.flyway.password", PRIMARY::getPassword);
+        registry.add("incidentops.read-replicas.replicas[0].url", REPLICA::getJdbcUrl);
+        registry.add("incidentops.read-replicas.replicas[0].username", REPLICA::getUsername);
+        registry.add("incidentops.read-replicas.replicas[0].password", REPLICA::getPassword);
+    }
+
+    @BeforeAll
+    static void prepareReplica() throws SQLException {
+        Flyway.configure()
+            .dataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword())
+            .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+            .load()
+            .migrate();
+        try (Connection connection = connect(REPLICA); Statement statement = connection.createStatement()) {
+            statement.execute("insert into services (id, name) values (901, 'replica-api')");
+            statement.execute("""
+                insert into incident_tickets (ticket_id, service_key, severity, summary, status)
+                values ('TKT-8901', 901, 3, 'served by replica', 1)
+                """);
+        }
+    }
+
+    @Autowired
+    private IncidentTicketQueryService queryService;
+
+    @Autowired
+    private IncidentTicketCommandService commandService;
+
+    @Test
+    void readOnlyQueries_areServedByReplica() {
+        IncidentTicketResponse fromReplica = queryService.getByTicketId("TKT-8901");
+
+        assertEquals("replica-api", fromReplica.serviceId());
+        assertTrue(queryService.listByStatus("OPEN", 0, 20).getContent().stream()
+            .anyMatch(ticket -> ticket.ticketId().equals("TKT-8901")));
+    }
+
+    @Test
+    void writes_goToPrimaryOnly() throws SQLException {
+        IncidentTicketResponse created = commandService.create(
+            new CreateIncidentTicketRequest("primary-api", 4, "written to primary")
+        );
+
+        assertTrue(exists(PRIMARY, created.ticketId()));
+        assertFalse(exists(REPLICA, created.ticketId()));
+        assertFalse(exists(PRIMARY, "TKT-8901"));
+    }
+
+    private static boolean exists(PostgreSQLContainer<?> container, String ticketId) throws SQLException {
+        try (Connection connection = connect(container);
+             PreparedStatement statement = connection.prepareStatement(
+                 "select count(*) from incident_tickets where ticket_id = ?"
+             )) {
+            statement.setString(1, ticketId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1) == 1;
+            }
+        }
+    }
+
+    private static Connection connect(PostgreSQLContainer<?> container) throws SQLException {
+        return DriverManager.getConnection(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+}
@@ -0,0 +1,150 @@
+package com.showoff.incidentops.springboot.persistence.routing;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+    @Test
+    void getConnection_roundRobinsAcrossHealthyReplicas() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        DataSource primary = dataSourceReturning(primaryConnection);
+        Connection firstConnection = connectionReportingLag(0);
+        Connection secondConnection = connectionReportingLag(100);
+        DataSource first = dataSourceReturning(firstConnection);
+        DataSource second = dataSourceReturning(secondConnection);
+
+        ReplicaRoutingDataSource routing = routing(primary, List.of(first, second), Duration.ofSeconds(1));
+        routing.checkReplicas();
+
+        assertSame(firstConnection, routing.getConnection());
+        assertSame(secondConnection, routing.getConnection());
+        assertSame(firstConnection, routing.getConnection());
+    }
+
+    @Test
+    void getConnection_fallsBackToPrimaryWhenReplicasLagOrFail() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        DataSource primary = dataSourceReturning(primaryConnection);
+        DataSource lagging = dataSourceReturning(connectionReportingLag(60_000));
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        ReplicaRoutingDataSource routing = routing(primary, List.of(lagging, broken), Duration.ofSeconds(5));
+        routing.checkReplicas();
+
+        assertSame(primaryConnection, routing.getConnection());
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    @Test
+    void getConnection_marksReplicaUnavailableWhenCheckoutFails() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        DataSource primary = dataSourceReturning(primaryConnection);
+        Connection lagProbe = connectionReportingLag(0);
+        DataSource flaky = mock(DataSource.class);
+        when(flaky.getConnection())
+            .thenReturn(lagProbe)
+            .thenThrow(new SQLException("pool exhausted"));
+
+        ReplicaRoutingDataSource routing = routing(primary, List.of(flaky), Duration.ofSeconds(5));
+        routing.checkReplicas();
+
+        assertSame(primaryConnection, routing.getConnection());
+        assertSame(primaryConnection, routing.getConnection());
+        verify(flaky, times(2)).getConnection();
+    }
+
+    @Test
+    void getConnection_neverProbesReplicasAndUsesPrimaryUntilTheFirstCheckPasses() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        Connection replicaConnection = connectionReportingLag(0);
+        DataSource replica = dataSourceReturning(replicaConnection);
+        ScheduledExecutorService lagChecks = mock(ScheduledExecutorService.class);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            dataSourceReturning(primaryConnection),
+            List.of(replica),
+            Duration.ofSeconds(5),
+            Duration.ZERO,
+            lagChecks
+        );
+
+        assertSame(primaryConnection, routing.getConnection());
+        verify(replica, never()).getConnection();
+        verify(lagChecks).scheduleWithFixedDelay(
+            any(Runnable.class),
+            eq(0L),
+            eq(ReplicaRoutingDataSource.MIN_LAG_CHECK_INTERVAL.toMillis()),
+            eq(TimeUnit.MILLISECONDS)
+        );
+
+        routing.checkReplicas();
+        assertSame(replicaConnection, routing.getConnection());
+        routing.close();
+        verify(lagChecks).shutdownNow();
+    }
+
+    @Test
+    void getConnection_usesPrimaryWithoutReplicasAndRejectsExplicitCredentials() throws SQLException {
+        Connection primaryConnection = mock(Connection.class);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            dataSourceReturning(primaryConnection),
+            List.of(),
+            Duration.ZERO,
+            Duration.ZERO
+        );
+
+        assertSame(primaryConnection, routing.getConnection());
+        assertThrows(SQLFeatureNotSupportedException.class, () -> routing.getConnection("user", "secret"));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ReplicaRoutingDataSource(null, List.of(), Duration.ZERO, Duration.ZERO)
+        );
+    }
+
+    private static ReplicaRoutingDataSource routing(DataSource primary, List<DataSource> replicas, Duration maxLag) {
+        return new ReplicaRoutingDataSource(
+            primary,
+            replicas,
+            maxLag,
+            Duration.ofMinutes(1),
+            mock(ScheduledExecutorService.class)
+        );
+    }
+
+    private static DataSource dataSourceReturning(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private static Connection connectionReportingLag(long lagMillis) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaRoutingDataSource.LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(lagMillis);
+        return connection;
+    }
+}
@@ -1,7 +1,13 @@
 package com.showoff.incidentops.springboot.persistence.service;
 
+import com.showoff.incidentops.springboot.persistence.cache.SingleFlightCacheManager;
+import com.showoff.incidentops.springboot.persistence.dto.BulkUpdateIncidentTicketStatusRequest;
+import com.showoff.incidentops.springboot.persistence.dto.CreateIncidentTicketRequest;
 import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketVersionConflictException;
 import com.showoff.incidentops.springboot.persistence.repository.IncidentTicketRepository;
+import com.showoff.incidentops.springboot.persistence.repository.ServiceDirectory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,8 +15,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest(
     classes = com.showoff.incidentops.springboot.IncidentApiApplication.class,
@@ -30,12 +42,29 @@ class IncidentTicketCachingIntegrationTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ServiceDirectory serviceDirectory;
+
+    @Autowired
+    private TicketCacheInvalidator cacheInvalidator;
+
     @BeforeEach
     void setUp() {
+        Stream.of(
+            "payments-api",
+            "identity-api",
+            "ledger-api",
+            "billing-api",
+            "search-api"
+        ).forEach(serviceDirectory::register);
         repository.deleteAll();
         clearCache(IncidentTicketService.CACHE_TICKET_BY_ID);
         clearCache(IncidentTicketService.CACHE_STATUS_PAGES);
         clearCache(IncidentTicketService.CACHE_SERVICE_SEARCH_PAGES);
+        clearCache(IncidentTicketService.CACHE_STATS_BY_STATUS);
     }
 
     @Test
@@ -57,12 +86,144 @@ class IncidentTicketCachingIntegrationTest {
         repository.save(new IncidentTicketEntity("TKT-9702", "identity-api", 3, "token issue", "OPEN"));
 
         service.getByTicketId("TKT-9702");
-        var updated = service.updateStatus("TKT-9702", "resolved");
+        var updated = service.updateStatus("TKT-9702", "ack", 0L);
         repository.deleteAll();
         var afterUpdate = service.getByTicketId("TKT-9702");
 
-        assertEquals("RESOLVED", updated.status());
-        assertEquals("RESOLVED", afterUpdate.status());
+        assertEquals("ACK", updated.status());
+        assertEquals(1, updated.version());
+        assertEquals(updated, afterUpdate);
+    }
+
+    @Test
+    void updateStatus_withStaleVersionIsRejected() {
+        repository.save(new IncidentTicketEntity("TKT-9703", "identity-api", 3, "token issue", "OPEN"));
+
+        assertEquals(1, service.updateStatus("TKT-9703", "ack", null).version());
+        assertThrows(
+            IncidentTicketVersionConflictException.class,
+            () -> service.updateStatus("TKT-9703", "resolved", 0L)
+        );
+        assertEquals("ACK", repository.findByTicketId("TKT-9703").orElseThrow().getStatus());
+    }
+
+    @Test
+    void getStats_isCachedPerStatusUntilTicketsChange() {
+        repository.save(new IncidentTicketEntity("TKT-9704", "ledger-api", 4, "ledger delay", "OPEN"));
+
+        assertEquals(1, service.getStats("open").total());
+        repository.save(new IncidentTicketEntity("TKT-9705", "ledger-api", 4, "ledger lag", "OPEN"));
+        assertEquals(1, service.getStats("OPEN").total());
+        assertNotNull(cacheManager.getCache(IncidentTicketService.CACHE_STATS_BY_STATUS).get("OPEN"));
+
+        service.updateStatus("TKT-9704", "ack", null);
+        assertEquals(1, service.getStats("OPEN").total());
+        assertEquals(2, service.getStats(null).total());
+    }
+
+    @Test
+    void writes_evictOnlyPagesForAffectedStatusesAndServices() {
+        repository.save(new IncidentTicketEntity("TKT-9706", "billing-api", 2, "invoice lag", "RESOLVED"));
+        repository.save(new IncidentTicketEntity("TKT-9707", "payments-api", 4, "queue delay", "OPEN"));
+        service.listByStatus("RESOLVED", 0, 20);
+        service.listByStatus("OPEN", 0, 20);
+        service.searchByServiceAndMinSeverity("billing-api", 1, 0, 20);
+        service.searchByServiceAndMinSeverity("Payments-Api", 1, 0, 20);
+        service.getStats("RESOLVED");
+        service.getStats("OPEN");
+        String resolvedPage = statusPage("RESOLVED");
+        String billingPage = servicePage("billing-api");
+
+        service.create(new CreateIncidentTicketRequest("payments-api", 3, "card declines"));
+
+        Cache statusPages = cacheManager.getCache(IncidentTicketService.CACHE_STATUS_PAGES);
+        Cache servicePages = cacheManager.getCache(IncidentTicketService.CACHE_SERVICE_SEARCH_PAGES);
+        Cache stats = cacheManager.getCache(IncidentTicketService.CACHE_STATS_BY_STATUS);
+        assertEquals(resolvedPage, statusPage("RESOLVED"));
+        assertNotNull(statusPages.get(resolvedPage));
+        assertNull(statusPages.get(statusPage("OPEN")));
+        assertEquals(billingPage, servicePage("billing-api"));
+        assertNotNull(servicePages.get(billingPage));
+        assertNull(servicePages.get(servicePage("payments-api")));
+        assertNotNull(stats.get("RESOLVED"));
+        assertNull(stats.get("OPEN"));
+        assertEquals(2, service.listByStatus("OPEN", 0, 20).getTotalElements());
+
+        service.listByStatus("OPEN", 0, 20);
+        assertNotNull(statusPages.get(statusPage("OPEN")));
+        service.updateStatus("TKT-9707", "ack", null);
+
+        assertNull(statusPages.get(statusPage("OPEN")));
+        assertNotNull(statusPages.get(statusPage("RESOLVED")));
+        assertNotNull(servicePages.get(servicePage("billing-api")));
+    }
+
+    @Test
+    void bulkUpdateByFilter_evictsSourceAndTargetStatusPagesOnly() {
+        repository.save(new IncidentTicketEntity("TKT-9708", "search-api", 3, "index lag", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-9709", "search-api", 3, "shard down", "OPEN"));
+        service.listByStatus("ACK", 0, 20);
+        service.listByStatus("RESOLVED", 0, 20);
+        service.listByStatus("OPEN", 0, 20);
+        service.getByTicketId("TKT-9708");
+        service.getByTicketId("TKT-9709");
+
+        service.updateStatuses(new BulkUpdateIncidentTicketStatusRequest(null, "search-api", "ACK", "RESOLVED"));
+
+        Cache statusPages = cacheManager.getCache(IncidentTicketService.CACHE_STATUS_PAGES);
+        Cache tickets = cacheManager.getCache(IncidentTicketService.CACHE_TICKET_BY_ID);
+        assertNull(statusPages.get(statusPage("ACK")));
+        assertNull(statusPages.get(statusPage("RESOLVED")));
+        assertNotNull(statusPages.get(statusPage("OPEN")));
+        assertNull(tickets.get("TKT-9708"));
+        assertNotNull(tickets.get("TKT-9709"));
+        assertEquals("RESOLVED", service.getByTicketId("TKT-9708").status());
+    }
+
+    @Test
+    void bulkUpdateByIds_evictsOnlyChangedTicketsAndTheirServices() {
+        repository.save(new IncidentTicketEntity("TKT-9711", "search-api", 3, "index lag", "ACK"));
+        repository.save(new IncidentTicketEntity("TKT-9712", "billing-api", 2, "invoice lag", "ACK"));
+        service.getByTicketId("TKT-9711");
+        service.getByTicketId("TKT-9712");
+        service.searchByServiceAndMinSeverity("search-api", 1, 0, 20);
+        service.searchByServiceAndMinSeverity("billing-api", 1, 0, 20);
+
+        service.updateStatuses(new BulkUpdateIncidentTicketStatusRequest(List.of("TKT-9711"), null, null, "RESOLVED"));
+
+        Cache tickets = cacheManager.getCache(IncidentTicketService.CACHE_TICKET_BY_ID);
+        Cache servicePages = cacheManager.getCache(IncidentTicketService.CACHE_SERVICE_SEARCH_PAGES);
+        assertNull(tickets.get("TKT-9711"));
+        assertNotNull(tickets.get("TKT-9712"));
+        assertNull(servicePages.get(servicePage("search-api")));
+        assertNotNull(servicePages.get(servicePage("billing-api")));
+    }
+
+    @Test
+    void cacheMisses_areLoadedThroughSingleFlightAndCounted() {
+        repository.save(new IncidentTicketEntity("TKT-9710", "search-api", 2, "slow query", "OPEN"));
+        long before = ticketLoads();
+
+        service.getByTicketId("TKT-9710");
+        service.getByTicketId("tkt-9710");
+
+        assertInstanceOf(SingleFlightCacheManager.class, cacheManager);
+        assertEquals(before + 1, ticketLoads());
+    }
+
+    private String statusPage(String status) {
+        return cacheInvalidator.versionedTag(IncidentTicketService.CACHE_STATUS_PAGES, status) + ":0:20";
+    }
+
+    private String servicePage(String serviceId) {
+        return cacheInvalidator.versionedTag(IncidentTicketService.CACHE_SERVICE_SEARCH_PAGES, serviceId) + ":1:0:20";
+    }
+
+    private long ticketLoads() {
+        return meterRegistry.get("incidentops.cache.loads")
+            .tags("cache", IncidentTicketService.CACHE_TICKET_BY_ID, "backend", "simple")
+            .timer()
+            .count();
     }
 
     private void clearCache(String cacheName) {
@@ -1,25 +1,57 @@
 package com.showoff.incidentops.springboot.persistence.service;
 
 import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import com.showoff.incidentops.springboot.config.TicketCountProperties;
+import com.showoff.incidentops.springboot.persistence.dto.BulkUpdateIncidentTicketStatusRequest;
 import com.showoff.incidentops.springboot.persistence.dto.CreateIncidentTicketRequest;
 import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsGroup;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusCount;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusDuration;
+import com.showoff.incidentops.springboot.persistence.dto.TicketTransitionResponse;
 import com.showoff.incidentops.springboot.persistence.entity.IncidentTicketEntity;
 import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketNotFoundException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketTransitionException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketUpdateConflictException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketVersionConflictException;
 import com.showoff.incidentops.springboot.persistence.mapper.IncidentTicketMapper;
 import com.showoff.incidentops.springboot.persistence.repository.IncidentTicketRepository;
+import com.showoff.incidentops.springboot.persistence.repository.IncidentTicketSearchHit;
+import com.showoff.incidentops.springboot.persistence.repository.ServiceDirectory;
+import com.showoff.incidentops.springboot.persistence.repository.TicketOutboxRepository;
+import com.showoff.incidentops.springboot.persistence.repository.TicketTransitionRepository;
+import com.showoff.incidentops.springboot.persistence.repository.TicketTransitionRepository.LockedTicket;
 import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,10 +61,11 @@ class IncidentTicketServiceTest {
     void create_mapsAndPersistsTicket() {
         IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
         when(repository.save(any(IncidentTicketEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        IncidentTicketService service = new IncidentTicketService(repository, new IncidentTicketMapper(), properties());
+        when(repository.nextTicketNumberBlock()).thenReturn(5001L);
+        IncidentTicketService service = newService(repository, properties());
 
         IncidentTicketResponse response = service.create(new CreateIncidentTicketRequest(" Payments-Api ", 4, " queue delay "));
-        assertTrue(response.ticketId().startsWith("TKT-"));
+        assertEquals("TKT-5001", response.ticketId());
         assertEquals("payments-api", response.serviceId());
         assertEquals(4, response.severity());
         assertEquals("queue delay", response.summary());
@@ -40,13 +73,148 @@ class IncidentTicketServiceTest {
     }
 
     @Test
-    void getByTicketId_returnsMappedResponseOrThrows() {
+    void create_andCreateAll_appendTicketCreatedOutboxEvents() {
         IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
-        when(repository.findByTicketId(eq("TKT-9001"))).thenReturn(
-            Optional.of(new IncidentTicketEntity("TKT-9001", "identity-api", 3, "token issue", "OPEN"))
+        TicketOutboxRepository outbox = mock(TicketOutboxRepository.class);
+        when(repository.save(any(IncidentTicketEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.nextTicketNumberBlock()).thenReturn(5101L);
+        IncidentTicketService service = newService(repository, properties(), outbox, mock(TicketTransitionRepository.class));
+
+        service.create(new CreateIncidentTicketRequest("payments-api", 4, "queue delay"));
+        service.createAll(List.of(
+            new CreateIncidentTicketRequest("payments-api", 3, "slow checkout"),
+            new CreateIncidentTicketRequest("payments-api", 9, "bad severity")
+        ));
+
+        verify(outbox).appendTicketCreated(argThat(tickets ->
+            tickets.size() == 1 && tickets.iterator().next().getTicketId().equals("TKT-5101")
+        ));
+        verify(outbox).appendTicketCreated(argThat(tickets ->
+            tickets.size() == 1 && tickets.iterator().next().getTicketId().equals("TKT-5102")
+        ));
+    }
+
+    @Test
+    void writes_appendStatusTransitionsInTheSameTransaction() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        TicketTransitionRepository transitions = mock(TicketTransitionRepository.class);
+        when(repository.save(any(IncidentTicketEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.saveAndFlush(any(IncidentTicketEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.nextTicketNumberBlock()).thenReturn(5201L);
+        when(repository.findByTicketId("TKT-5201")).thenReturn(Optional.of(
+            new IncidentTicketEntity("TKT-5201", "payments-api", 4, "queue delay", "OPEN")
+        ));
+        IncidentTicketService service = newService(repository, properties(), mock(TicketOutboxRepository.class), transitions);
+
+        service.create(new CreateIncidentTicketRequest("payments-api", 4, "queue delay"));
+        service.updateStatus("TKT-5201", "ack", null);
+        service.updateStatus("TKT-5201", "ack", null);
+        service.updateStatuses(new BulkUpdateIncidentTicketStatusRequest(List.of("tkt-5201"), null, null, "resolved"));
+        service.updateStatuses(new BulkUpdateIncidentTicketStatusRequest(null, " payments-api ", "ack", "resolved"));
+
+        verify(transitions).appendCreated(argThat(tickets -> tickets.iterator().next().getTicketId().equals("TKT-5201")));
+        verify(transitions, times(1)).append("TKT-5201", "OPEN", "ACK", 0L);
+        verify(transitions).lockByTicketIds(Set.of("TKT-5201"), List.of("ACK"));
+        verify(transitions).lockByServiceAndStatus("payments-api", "ACK");
+    }
+
+    @Test
+    void getHistoryAndTimeInStatus_readTransitions() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        TicketTransitionRepository transitions = mock(TicketTransitionRepository.class);
+        IncidentTicketService service = newService(repository, properties(), mock(TicketOutboxRepository.class), transitions);
+        TicketTransitionResponse opened = new TicketTransitionResponse(
+            "TKT-5301", null, "OPEN", 0, Instant.parse("2026-03-01T10:00:00Z")
+        );
+        when(transitions.findByTicketId("TKT-5301")).thenReturn(List.of(opened));
+        when(transitions.findByTicketId("TKT-5302")).thenReturn(List.of());
+        when(repository.findResponseByTicketId("TKT-5302")).thenReturn(Optional.empty());
+        when(transitions.timeInStatus(eq(Set.of("TKT-5301", "TKT-5302")), any())).thenReturn(List.of(
+            new TicketStatusDuration("TKT-5301", "OPEN", 120)
+        ));
+
+        assertEquals(List.of(opened), service.getHistory(" tkt-5301 "));
+        assertThrows(IncidentTicketNotFoundException.class, () -> service.getHistory("TKT-5302"));
+        assertEquals(
+            List.of(new TicketStatusDuration("TKT-5301", "OPEN", 120)),
+            service.timeInStatus(List.of("tkt-5301", "TKT-5302", "TKT-5301"))
         );
-        when(repository.findByTicketId(eq("TKT-9999"))).thenReturn(Optional.empty());
-        IncidentTicketService service = new IncidentTicketService(repository, new IncidentTicketMapper(), properties());
+
+        assertThrows(IllegalArgumentException.class, () -> service.getHistory(" "));
+        assertThrows(IllegalArgumentException.class, () -> service.timeInStatus(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> service.timeInStatus(Arrays.asList("TKT-1", null)));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> service.timeInStatus(Collections.nCopies(IncidentTicketService.MAX_TIME_IN_STATUS_TICKETS + 1, "TKT-1"))
+        );
+    }
+
+    @Test
+    void createAll_insertsValidItemsInOneBatchAndReportsRejections() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        when(repository.nextTicketNumberBlock()).thenReturn(6001L);
+        ServiceDirectory serviceDirectory = mock(ServiceDirectory.class);
+        IncidentTicketService service = newService(
+            repository,
+            properties(),
+            mock(TicketOutboxRepository.class),
+            mock(TicketTransitionRepository.class),
+            serviceDirectory
+        );
+
+        var response = service.createAll(Arrays.asList(
+            new CreateIncidentTicketRequest(" Payments-Api ", 4, " queue delay "),
+            new CreateIncidentTicketRequest("payments-api", 9, "bad severity"),
+            null,
+            new CreateIncidentTicketRequest("identity-api", 2, "token issue"),
+            new CreateIncidentTicketRequest(" ", 2, "missing service"),
+            new CreateIncidentTicketRequest("x".repeat(65), 2, "long service"),
+            new CreateIncidentTicketRequest("identity-api", 2, " "),
+            new CreateIncidentTicketRequest("identity-api", 2, "y".repeat(256)),
+            new CreateIncidentTicketRequest("Edge Proxy/EU", 2, "free-form service")
+        ));
+
+        assertEquals(9, response.requested());
+        assertEquals(3, response.created());
+        assertEquals(6, response.rejected());
+        assertEquals("TKT-6001", response.results().get(0).ticketId());
+        assertEquals("CREATED", response.results().get(0).outcome());
+        assertEquals("severity must be between 1 and 5", response.results().get(1).error());
+        assertEquals("ticket must not be null", response.results().get(2).error());
+        assertEquals("TKT-6002", response.results().get(3).ticketId());
+        assertEquals("serviceId must not be blank", response.results().get(4).error());
+        assertEquals("serviceId must be <= 64 chars", response.results().get(5).error());
+        assertEquals("summary must not be blank", response.results().get(6).error());
+        assertEquals("summary must be <= 255 chars", response.results().get(7).error());
+        assertEquals("TKT-6003", response.results().get(8).ticketId());
+        verify(serviceDirectory).register("payments-api");
+        verify(serviceDirectory).register("identity-api");
+        verify(serviceDirectory).register("edge proxy/eu");
+        verify(repository, times(1)).nextTicketNumberBlock();
+        verify(repository).insertAll(argThat(tickets ->
+            tickets.size() == 3 && tickets.get(0).getServiceId().equals("payments-api")
+        ));
+        verify(repository, never()).save(any());
+
+        assertThrows(IllegalArgumentException.class, () -> service.createAll(null));
+        assertThrows(IllegalArgumentException.class, () -> service.createAll(List.of()));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> service.createAll(Collections.nCopies(
+                IncidentTicketService.MAX_BATCH_SIZE + 1,
+                new CreateIncidentTicketRequest("payments-api", 4, "db outage")
+            ))
+        );
+    }
+
+    @Test
+    void getByTicketId_returnsProjectedResponseOrThrows() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        when(repository.findResponseByTicketId(eq("TKT-9001"))).thenReturn(
+            Optional.of(new IncidentTicketResponse("TKT-9001", "identity-api", 3, "token issue", "OPEN", 0))
+        );
+        when(repository.findResponseByTicketId(eq("TKT-9999"))).thenReturn(Optional.empty());
+        IncidentTicketService service = newService(repository, properties());
 
         IncidentTicketResponse response = service.getByTicketId("tkt-9001");
         assertEquals("TKT-9001", response.ticketId());
@@ -60,22 +228,190 @@ class IncidentTicketServiceTest {
         IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
         IncidentTicketEntity existing = new IncidentTicketEntity("TKT-9010", "payments-api", 4, "queue delay", "OPEN");
         when(repository.findByTicketId(eq("TKT-9010"))).thenReturn(Optional.of(existing));
-        when(repository.save(any(IncidentTicketEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        IncidentTicketService service = new IncidentTicketService(repository, new IncidentTicketMapper(), properties());
+        when(repository.saveAndFlush(any(IncidentTicketEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        IncidentTicketService service = newService(repository, properties());
 
-        IncidentTicketResponse updated = service.updateStatus("tkt-9010", "resolved");
+        IncidentTicketResponse updated = service.updateStatus("tkt-9010", "ack", null);
         assertEquals("TKT-9010", updated.ticketId());
-        assertEquals("RESOLVED", updated.status());
+        assertEquals("ACK", updated.status());
+        assertEquals(0, updated.version());
+        assertEquals("RESOLVED", service.updateStatus("TKT-9010", "resolved", 0L).status());
+        assertEquals("RESOLVED", service.updateStatus("TKT-9010", "RESOLVED", null).status());
+
+        assertThrows(IncidentTicketTransitionException.class, () -> service.updateStatus("TKT-9010", "open", null));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatus("TKT-9010", "reopened", null));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatus(" ", "OPEN", null));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatus("TKT-9010", " ", null));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatus("TKT-9010", "OPEN", -1L));
+        assertThrows(IncidentTicketNotFoundException.class, () -> service.updateStatus("TKT-9999", "OPEN", null));
+    }
+
+    @Test
+    void updateStatus_rejectsStaleExpectedVersionWithoutWriting() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        when(repository.findByTicketId(eq("TKT-9011"))).thenReturn(
+            Optional.of(new IncidentTicketEntity("TKT-9011", "payments-api", 4, "queue delay", "OPEN"))
+        );
+        IncidentTicketService service = newService(repository, properties());
+
+        assertThrows(
+            IncidentTicketVersionConflictException.class,
+            () -> service.updateStatus("TKT-9011", "RESOLVED", 3L)
+        );
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void updateStatus_retriesOptimisticLockFailuresUpToLimit() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        when(repository.findByTicketId(eq("TKT-9012"))).thenAnswer(invocation -> Optional.of(
+            new IncidentTicketEntity("TKT-9012", "payments-api", 4, "queue delay", "OPEN")
+        ));
+        when(repository.saveAndFlush(any(IncidentTicketEntity.class)))
+            .thenThrow(new OptimisticLockingFailureException("concurrent update"))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        IncidentTicketService service = newService(repository, properties());
+
+        assertEquals("ACK", service.updateStatus("TKT-9012", "ack", null).status());
+        verify(repository, times(2)).saveAndFlush(any());
+
+        when(repository.saveAndFlush(any(IncidentTicketEntity.class)))
+            .thenThrow(new OptimisticLockingFailureException("concurrent update"));
+        assertThrows(
+            IncidentTicketUpdateConflictException.class,
+            () -> service.updateStatus("TKT-9012", "ack", null)
+        );
+        verify(repository, times(2 + IncidentTicketService.MAX_STATUS_UPDATE_ATTEMPTS)).saveAndFlush(any());
+        assertThrows(
+            IncidentTicketVersionConflictException.class,
+            () -> service.updateStatus("TKT-9012", "ack", 0L)
+        );
+    }
+
+    @Test
+    void unknownService_shortCircuitsServiceScopedQueriesAndUpdates() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        TicketTransitionRepository transitions = mock(TicketTransitionRepository.class);
+        ServiceDirectory serviceDirectory = mock(ServiceDirectory.class);
+        when(serviceDirectory.findId(any())).thenReturn(Optional.empty());
+        IncidentTicketService service = newService(
+            repository,
+            properties(),
+            mock(TicketOutboxRepository.class),
+            transitions,
+            serviceDirectory,
+            new TicketCacheInvalidator(new NoOpCacheManager(), Optional.empty(), event -> { })
+        );
 
-        assertThrows(IllegalArgumentException.class, () -> service.updateStatus(" ", "OPEN"));
-        assertThrows(IllegalArgumentException.class, () -> service.updateStatus("TKT-9010", " "));
-        assertThrows(IncidentTicketNotFoundException.class, () -> service.updateStatus("TKT-9999", "OPEN"));
+        assertTrue(service.searchByServiceAndMinSeverity("ghost-api", 1, 0, 20).isEmpty());
+        assertTrue(service.searchByServiceAndMinSeverityAfter("ghost-api", 1, null, 20).content().isEmpty());
+        assertEquals(0, service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(null, "ghost-api", "ACK", "RESOLVED")
+        ).updated());
+        verify(repository, never()).findResponsesByServiceAndMinSeverity(any(), eq(1), any());
+        verify(repository, never()).findKeysetByServiceAndMinSeverity(any(), eq(1), any());
+        verify(repository, never()).updateStatusByTicketIds(any(), any(), any());
+        verify(transitions, never()).lockByServiceAndStatus(any(), any());
+    }
+
+    @Test
+    void updateStatuses_updatesAndRecordsExactlyTheLockedRows() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        TicketTransitionRepository transitions = mock(TicketTransitionRepository.class);
+        List<LockedTicket> lockedByIds = List.of(
+            new LockedTicket("TKT-9010", "payments-api", "ACK", 2),
+            new LockedTicket("TKT-9011", "payments-api", "ACK", 0)
+        );
+        List<LockedTicket> lockedByService = List.of(new LockedTicket("TKT-9020", "payments-api", "ACK", 1));
+        when(transitions.lockByTicketIds(Set.of("TKT-9010", "TKT-9011"), List.of("ACK"))).thenReturn(lockedByIds);
+        when(transitions.lockByServiceAndStatus("Payments-Api", "ACK")).thenReturn(lockedByService);
+        when(repository.updateStatusByTicketIds(List.of("TKT-9010", "TKT-9011"), List.of("ACK"), "RESOLVED")).thenReturn(2);
+        when(repository.updateStatusByTicketIds(List.of("TKT-9020"), List.of("ACK"), "RESOLVED")).thenReturn(1);
+        IncidentTicketService service = newService(repository, properties(), mock(TicketOutboxRepository.class), transitions);
+
+        var byIds = service.updateStatuses(new BulkUpdateIncidentTicketStatusRequest(
+            List.of(" tkt-9010 ", "TKT-9011", "TKT-9010"),
+            null,
+            null,
+            "resolved"
+        ));
+        assertEquals(2, byIds.updated());
+        assertEquals("RESOLVED", byIds.status());
+
+        var byFilter = service.updateStatuses(new BulkUpdateIncidentTicketStatusRequest(
+            List.of(),
+            " Payments-Api ",
+            " ack ",
+            "Resolved"
+        ));
+        assertEquals(1, byFilter.updated());
+        assertEquals(0, service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(null, "payments-api", "RESOLVED", "resolved")
+        ).updated());
+        verify(transitions).appendBulk(lockedByIds, "RESOLVED");
+        verify(transitions).appendBulk(lockedByService, "RESOLVED");
+        verify(repository, never()).findByTicketId(any());
+        verify(repository, never()).save(any());
+
+        assertThrows(IncidentTicketTransitionException.class, () -> service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(List.of("TKT-9010"), null, null, "OPEN")
+        ));
+        assertThrows(IncidentTicketTransitionException.class, () -> service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(null, "payments-api", "OPEN", "CLOSED")
+        ));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(null, "payments-api", "OPEN", "PARKED")
+        ));
+
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatuses(null));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(List.of("TKT-1"), null, null, " ")
+        ));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(null, " ", null, "RESOLVED")
+        ));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(List.of("TKT-1"), "payments-api", "OPEN", "RESOLVED")
+        ));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(Arrays.asList("TKT-1", " "), null, null, "RESOLVED")
+        ));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(null, "payments-api", null, "RESOLVED")
+        ));
+        assertThrows(IllegalArgumentException.class, () -> service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(
+                Collections.nCopies(IncidentTicketService.MAX_BATCH_SIZE + 1, "TKT-1"),
+                null,
+                null,
+                "RESOLVED"
+            )
+        ));
+    }
+
+    @Test
+    void updateStatuses_movesServiceSetInOneStatementWhenSupported() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        TicketTransitionRepository transitions = mock(TicketTransitionRepository.class);
+        when(transitions.supportsSetBasedMoves()).thenReturn(true);
+        when(transitions.moveByServiceAndStatus("payments-api", "ACK", "RESOLVED")).thenReturn(List.of(
+            new LockedTicket("TKT-9030", "payments-api", "ACK", 1),
+            new LockedTicket("TKT-9031", "payments-api", "ACK", 4)
+        ));
+        IncidentTicketService service = newService(repository, properties(), mock(TicketOutboxRepository.class), transitions);
+
+        assertEquals(2, service.updateStatuses(
+            new BulkUpdateIncidentTicketStatusRequest(null, "payments-api", "ack", "resolved")
+        ).updated());
+        verify(transitions, never()).lockByServiceAndStatus(any(), any());
+        verify(transitions, never()).appendBulk(any(), any());
+        verify(repository, never()).updateStatusByTicketIds(any(), any(), any());
     }
 
     @Test
     void service_validatesInput() {
         IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
-        IncidentTicketService service = new IncidentTicketService(repository, new IncidentTicketMapper(), properties());
+        IncidentTicketService service = newService(repository, properties());
 
         assertThrows(IllegalArgumentException.class, () -> service.create(null));
         assertThrows(IllegalArgumentException.class, () -> service.getByTicketId(null));
@@ -93,23 +429,23 @@ class IncidentTicketServiceTest {
     }
 
     @Test
-    void listByStatus_andSearchByServiceAndMinSeverity_mapPagedResults() {
+    void listByStatus_andSearchByServiceAndMinSeverity_returnProjectedPages() {
         IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
-        IncidentTicketService service = new IncidentTicketService(repository, new IncidentTicketMapper(), properties());
+        IncidentTicketService service = newService(repository, properties());
 
-        when(repository.findByStatusOrderBySeverityDescTicketIdAsc(eq("OPEN"), any())).thenReturn(
+        when(repository.findResponsesByStatus(eq("OPEN"), any())).thenReturn(
             new PageImpl<>(
                 List.of(
-                    new IncidentTicketEntity("TKT-7005", "payments-api", 5, "db outage", "OPEN"),
-                    new IncidentTicketEntity("TKT-7004", "identity-api", 4, "token issue", "OPEN")
+                    new IncidentTicketResponse("TKT-7005", "payments-api", 5, "db outage", "OPEN", 0),
+                    new IncidentTicketResponse("TKT-7004", "identity-api", 4, "token issue", "OPEN", 0)
                 ),
                 PageRequest.of(0, 2),
                 3
             )
         );
-        when(repository.findByServiceAndMinSeverity(eq("Payments-Api"), eq(4), any())).thenReturn(
+        when(repository.findResponsesByServiceAndMinSeverity(eq("Payments-Api"), eq(4), any())).thenReturn(
             new PageImpl<>(
-                List.of(new IncidentTicketEntity("TKT-7005", "payments-api", 5, "db outage", "OPEN")),
+                List.of(new IncidentTicketResponse("TKT-7005", "payments-api", 5, "db outage", "OPEN", 0)),
                 PageRequest.of(0, 1),
                 1
             )
@@ -124,15 +460,237 @@ class IncidentTicketServiceTest {
         assertEquals(1, search.getContent().size());
         assertEquals("payments-api", search.getContent().get(0).serviceId());
 
-        verify(repository).findByStatusOrderBySeverityDescTicketIdAsc(eq("OPEN"), any());
-        verify(repository).findByServiceAndMinSeverity(eq("Payments-Api"), eq(4), any());
+        verify(repository).findResponsesByStatus(eq("OPEN"), any());
+        verify(repository).findResponsesByServiceAndMinSeverity(eq("Payments-Api"), eq(4), any());
+    }
+
+    @Test
+    void listByStatusWithCountMode_skipsOrEstimatesTotal() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        IncidentTicketService service = newService(repository, properties());
+        List<IncidentTicketResponse> firstPage = List.of(
+            new IncidentTicketResponse("TKT-7005", "payments-api", 5, "db outage", "OPEN", 0),
+            new IncidentTicketResponse("TKT-7004", "identity-api", 4, "token issue", "OPEN", 0)
+        );
+        when(repository.findResponsesByStatus(eq("OPEN"), any())).thenReturn(
+            new PageImpl<>(firstPage, PageRequest.of(0, 2), 40)
+        );
+        when(repository.findKeysetByStatus(eq("OPEN"), eq(PageRequest.of(0, 2)))).thenReturn(
+            new SliceImpl<>(firstPage, PageRequest.of(0, 2), true)
+        );
+        when(repository.findKeysetByStatus(eq("OPEN"), eq(PageRequest.of(5, 2)))).thenReturn(
+            new SliceImpl<>(List.of(firstPage.get(0)), PageRequest.of(5, 2), false)
+        );
+        when(repository.countByStatus()).thenReturn(List.of(new TicketStatusCount("OPEN", 41)));
+
+        var exact = service.listByStatus("open", 0, 2, TicketCountMode.EXACT);
+        assertEquals(40L, exact.totalElements());
+        assertEquals("EXACT", exact.countMode());
+
+        var none = service.listByStatus("open", 0, 2, TicketCountMode.NONE);
+        assertNull(none.totalElements());
+        assertTrue(none.hasNext());
+        verify(repository, never()).countByStatus();
+
+        var estimate = service.listByStatus(null, 0, 2, TicketCountMode.ESTIMATE);
+        assertEquals(41L, estimate.totalElements());
+        assertEquals(2, estimate.content().size());
+
+        var lastPage = service.listByStatus("OPEN", 5, 2, TicketCountMode.ESTIMATE);
+        assertEquals(11L, lastPage.totalElements());
+        assertFalse(lastPage.hasNext());
+
+        verify(repository, times(1)).findResponsesByStatus(any(), any());
+        assertThrows(IllegalArgumentException.class, () -> service.listByStatus("OPEN", 0, 2, null));
+        assertThrows(IllegalArgumentException.class, () -> service.listByStatus("OPEN", -1, 2, TicketCountMode.NONE));
+    }
+
+    @Test
+    void listRecentByStatus_boundsCreatedAtWindow() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        IncidentTicketService service = newService(repository, properties());
+        when(repository.findRecentByStatus(eq("OPEN"), any(), eq(PageRequest.of(0, 5)))).thenReturn(
+            new SliceImpl<>(
+                List.of(new IncidentTicketResponse("TKT-7010", "payments-api", 4, "queue delay", "OPEN", 0)),
+                PageRequest.of(0, 5),
+                false
+            )
+        );
+        Instant before = Instant.now();
+
+        var recent = service.listRecentByStatus(" open ", 7, 0, 5);
+        assertEquals("TKT-7010", recent.content().get(0).ticketId());
+        assertFalse(recent.hasNext());
+        assertNull(recent.totalElements());
+        verify(repository).findRecentByStatus(
+            eq("OPEN"),
+            argThat(since -> !since.isAfter(before.minus(Duration.ofDays(7)).plusSeconds(5))
+                && since.isAfter(before.minus(Duration.ofDays(7)).minusSeconds(5))),
+            any()
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> service.listRecentByStatus("OPEN", 0, 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> service.listRecentByStatus("OPEN", 91, 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> service.listRecentByStatus("OPEN", 7, 0, 0));
+    }
+
+    @Test
+    void listByStatusAfter_seeksPastCursorWithoutCountQuery() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        IncidentTicketService service = newService(repository, properties());
+
+        when(repository.findKeysetByStatus(eq("OPEN"), any())).thenReturn(
+            new SliceImpl<>(
+                List.of(
+                    new IncidentTicketResponse("TKT-7005", "payments-api", 5, "db outage", "OPEN", 0),
+                    new IncidentTicketResponse("TKT-7004", "identity-api", 4, "token issue", "OPEN", 0)
+                ),
+                PageRequest.of(0, 2),
+                true
+            )
+        );
+        when(repository.findKeysetByStatusAfter(eq("OPEN"), eq(4), eq("TKT-7004"), any())).thenReturn(
+            new SliceImpl<>(
+                List.of(new IncidentTicketResponse("TKT-7003", "payments-api", 2, "minor alert", "OPEN", 0)),
+                PageRequest.of(0, 2),
+                false
+            )
+        );
+
+        var first = service.listByStatusAfter(" open ", null, 2);
+        assertEquals(2, first.size());
+        assertTrue(first.hasNext());
+        assertEquals("TKT-7005", first.content().get(0).ticketId());
+
+        var second = service.listByStatusAfter("OPEN", first.nextCursor(), 2);
+        assertEquals(1, second.size());
+        assertFalse(second.hasNext());
+        assertNull(second.nextCursor());
+        assertEquals("TKT-7003", second.content().get(0).ticketId());
+
+        verify(repository, never()).findResponsesByStatus(any(), any());
+        assertThrows(IllegalArgumentException.class, () -> service.listByStatusAfter("OPEN", "not-a-cursor", 2));
+        assertThrows(IllegalArgumentException.class, () -> service.listByStatusAfter("OPEN", null, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.listByStatusAfter("OPEN", null, 101));
+    }
+
+    @Test
+    void searchByServiceAndMinSeverityAfter_seeksPastCursor() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        IncidentTicketService service = newService(repository, properties());
+        String cursor = new TicketCursor(5, "TKT-7005").encode();
+
+        when(repository.findKeysetByServiceAndMinSeverity(eq("payments-api"), eq(4), any())).thenReturn(
+            new SliceImpl<>(
+                List.of(new IncidentTicketResponse("TKT-7005", "payments-api", 5, "db outage", "OPEN", 0)),
+                PageRequest.of(0, 1),
+                true
+            )
+        );
+        when(repository.findKeysetByServiceAndMinSeverityAfter(eq("payments-api"), eq(4), eq(5), eq("TKT-7005"), any()))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+
+        var first = service.searchByServiceAndMinSeverityAfter(" payments-api ", 4, " ", 1);
+        assertEquals(cursor, first.nextCursor());
+
+        var second = service.searchByServiceAndMinSeverityAfter("payments-api", 4, first.nextCursor(), 1);
+        assertTrue(second.content().isEmpty());
+        assertNull(second.nextCursor());
+
+        assertThrows(IllegalArgumentException.class, () -> service.searchByServiceAndMinSeverityAfter(" ", 4, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> service.searchByServiceAndMinSeverityAfter("payments-api", 6, null, 1));
+    }
+
+    @Test
+    void searchBySummary_fetchesOneExtraHitToBuildRankCursor() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        IncidentTicketService service = newService(repository, properties());
+        IncidentTicketResponse first = new IncidentTicketResponse("TKT-7901", "payments-api", 4, "checkout timeout", "OPEN", 0);
+        IncidentTicketResponse second = new IncidentTicketResponse("TKT-7902", "payments-api", 3, "checkout delay", "OPEN", 0);
+
+        when(repository.searchBySummary("checkout", null, null, 2)).thenReturn(List.of(
+            new IncidentTicketSearchHit(first, 0.5f),
+            new IncidentTicketSearchHit(second, 0.25f)
+        ));
+        when(repository.searchBySummary("checkout", 0.5f, "TKT-7901", 2)).thenReturn(List.of(
+            new IncidentTicketSearchHit(second, 0.25f)
+        ));
+
+        var page = service.searchBySummary(" checkout ", null, 1);
+        assertEquals(List.of(first), page.content());
+        assertTrue(page.hasNext());
+        assertEquals(new TicketSearchCursor(0.5f, "TKT-7901").encode(), page.nextCursor());
+
+        var last = service.searchBySummary("checkout", page.nextCursor(), 1);
+        assertEquals(List.of(second), last.content());
+        assertFalse(last.hasNext());
+        assertNull(last.nextCursor());
+
+        assertThrows(IllegalArgumentException.class, () -> service.searchBySummary(" ", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> service.searchBySummary("x".repeat(201), null, 1));
+        assertThrows(IllegalArgumentException.class, () -> service.searchBySummary("checkout", null, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.searchBySummary("checkout", "%%%", 1));
+    }
+
+    @Test
+    void getStats_groupsInOneQueryPerStatusFilter() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        IncidentTicketService service = newService(repository, properties());
+        when(repository.countGroupedByServiceSeverityStatus()).thenReturn(List.of(
+            new TicketStatsGroup("payments-api", 5, "RESOLVED", 4),
+            new TicketStatsGroup("identity-api", 3, "OPEN", 2)
+        ));
+        when(repository.countGroupedByServiceSeverityForStatus("OPEN")).thenReturn(List.of(
+            new TicketStatsGroup("identity-api", 3, "OPEN", 2)
+        ));
+
+        TicketStatsResponse all = service.getStats(null);
+        assertEquals("ALL", all.status());
+        assertEquals(6, all.total());
+        assertEquals(2, all.groups().size());
+        assertEquals("identity-api", all.groups().get(0).serviceId());
+
+        TicketStatsResponse open = service.getStats(" open ");
+        assertEquals("OPEN", open.status());
+        assertEquals(2, open.total());
+        verify(repository, times(1)).countGroupedByServiceSeverityStatus();
+        verify(repository, times(1)).countGroupedByServiceSeverityForStatus("OPEN");
+    }
+
+    @Test
+    void exportByStatus_writesEveryStreamedRowAndClosesCursor() throws Exception {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        IncidentTicketService service = newService(repository, properties());
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repository.streamResponsesByStatus("OPEN")).thenReturn(Stream.of(
+            new IncidentTicketResponse("TKT-7001", "payments-api", 5, "db \"outage\"", "OPEN", 2),
+            new IncidentTicketResponse("TKT-7002", "payments-api", 3, "queue, delay", "OPEN", 0)
+        ).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long exported = service.exportByStatus(" open ", TicketExportFormat.CSV, output);
+
+        assertEquals(2, exported);
+        assertTrue(closed.get());
+        assertEquals(
+            "ticketId,serviceId,severity,summary,status,version\r\n"
+                + "TKT-7001,payments-api,5,\"db \"\"outage\"\"\",OPEN,2\r\n"
+                + "TKT-7002,payments-api,3,\"queue, delay\",OPEN,0\r\n",
+            output.toString(StandardCharsets.UTF_8)
+        );
+
+        when(repository.streamResponsesByStatus("OPEN")).thenReturn(Stream.empty());
+        ByteArrayOutputStream empty = new ByteArrayOutputStream();
+        assertEquals(0, service.exportByStatus(null, TicketExportFormat.NDJSON, empty));
+        assertEquals(0, empty.size());
+        assertThrows(IllegalArgumentException.class, () -> service.exportByStatus("OPEN", null, empty));
     }
 
     @Test
     void listByStatus_usesConfiguredDefaultStatusWhenMissing() {
         IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
         IncidentOpsProperties customProperties = new IncidentOpsProperties(
-            new IncidentOpsProperties.Tickets("PENDING", 50),
+            new IncidentOpsProperties.Tickets("ack", 50),
             new IncidentOpsProperties.Integrations(
                 new IncidentOpsProperties.Integrations.Redis("localhost", 6379),
                 new IncidentOpsProperties.Integrations.Rabbitmq("localhost", 5672)
@@ -140,25 +698,28 @@ class IncidentTicketServiceTest {
             new IncidentOpsProperties.Security("k", "s"),
             new IncidentOpsProperties.Messaging(
                 new IncidentOpsProperties.Messaging.Kafka("incident-events-test", "incidentops-test")
-            )
+            ),
+            new IncidentOpsProperties.CacheLimits(null, null),
+            null
         );
-        IncidentTicketService service = new IncidentTicketService(repository, new IncidentTicketMapper(), customProperties);
+        IncidentTicketService service = newService(repository, customProperties);
 
-        when(repository.findByStatusOrderBySeverityDescTicketIdAsc(eq("PENDING"), any())).thenReturn(
+        when(repository.findResponsesByStatus(eq("ACK"), any())).thenReturn(
             new PageImpl<>(List.of(), PageRequest.of(0, 10), 0)
         );
 
         service.listByStatus(null, 0, 10);
         service.listByStatus(" ", 0, 10);
 
-        verify(repository, times(2)).findByStatusOrderBySeverityDescTicketIdAsc(eq("PENDING"), any());
+        verify(repository, times(2)).findResponsesByStatus(eq("ACK"), any());
+        assertThrows(IllegalArgumentException.class, () -> service.listByStatus("PENDING", 0, 10));
     }
 
     @Test
     void createAndFailForRollback_throwsAfterPersistAttempt() {
         IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
         when(repository.save(any(IncidentTicketEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        IncidentTicketService service = new IncidentTicketService(repository, new IncidentTicketMapper(), properties());
+        IncidentTicketService service = newService(repository, properties());
 
         assertThrows(
             IllegalStateException.class,
@@ -170,12 +731,54 @@ class IncidentTicketServiceTest {
     @Test
     void cacheKeys_areBuiltFromNormalizedInputs() {
         IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
-        IncidentTicketService service = new IncidentTicketService(repository, new IncidentTicketMapper(), properties());
+        IncidentTicketService service = newService(repository, properties());
 
-        assertEquals("OPEN:0:20", service.statusPageKey(null, 0, 20));
-        assertEquals("OPEN:1:5", service.statusPageKey(" open ", 1, 5));
-        assertEquals("payments-api:4:0:10", service.serviceSearchKey(" Payments-Api ", 4, 0, 10));
+        assertEquals("OPEN@0:0:20", service.statusPageKey(null, 0, 20));
+        assertEquals("OPEN@0:1:5", service.statusPageKey(" open ", 1, 5));
+        assertEquals("payments-api@0:4:0:10", service.serviceSearchKey(" Payments-Api ", 4, 0, 10));
         assertEquals("null:2:0:10", service.serviceSearchKey(null, 2, 0, 10));
+        assertEquals("ALL", service.statsKey(null));
+        assertEquals("ALL", service.statsKey(" "));
+        assertEquals("RESOLVED", service.statsKey(" resolved "));
+    }
+
+    private static IncidentTicketService newService(
+        IncidentTicketRepository repository,
+        IncidentOpsProperties properties
+    ) {
+        return newService(repository, properties, mock(TicketOutboxRepository.class), mock(TicketTransitionRepository.class));
+    }
+
+    private static IncidentTicketService newService(
+        IncidentTicketRepository repository,
+        IncidentOpsProperties properties,
+        TicketOutboxRepository outbox,
+        TicketTransitionRepository transitions
+    ) {
+        ServiceDirectory serviceDirectory = mock(ServiceDirectory.class);
+        when(serviceDirectory.findId(any())).thenReturn(Optional.of(1));
+        return newService(repository, properties, outbox, transitions, serviceDirectory);
+    }
+
+    private static IncidentTicketService newService(
+        IncidentTicketRepository repository,
+        IncidentOpsProperties properties,
+        TicketOutboxRepository outbox,
+        TicketTransitionRepository transitions,
+        ServiceDirectory serviceDirectory
+    ) {
+        return new IncidentTicketService(
+            repository,
+            new IncidentTicketMapper(),
+            properties,
+            new TicketIdAllocator(repository),
+            mock(PlatformTransactionManager.class),
+            new TicketStatusCounters(repository, new TicketCountProperties(Duration.ofMinutes(5)), Runnable::run),
+            outbox,
+            transitions,
+            serviceDirectory,
+            new TicketCacheInvalidator(new NoOpCacheManager(), Optional.empty(), event -> { })
+        );
     }
 
     private static IncidentOpsProperties properties() {
@@ -188,7 +791,9 @@ class IncidentTicketServiceTest {
             new IncidentOpsProperties.Security("key", "secret"),
             new IncidentOpsProperties.Messaging(
                 new IncidentOpsProperties.Messaging.Kafka("incident-events-test", "incidentops-test")
-            )
+            ),
+            new IncidentOpsProperties.CacheLimits(null, null),
+            null
         );
     }
 }
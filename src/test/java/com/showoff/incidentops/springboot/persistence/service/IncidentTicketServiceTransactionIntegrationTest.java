@@ -5,6 +5,7 @@ import com.showoff.incidentops.springboot.persistence.repository.IncidentTicketR
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -20,13 +21,18 @@ class IncidentTicketServiceTransactionIntegrationTest {
     @Autowired
     private IncidentTicketRepository repository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void createAndFailForRollback_rollsBackAtomicWrite() {
         repository.deleteAll();
+        Long outboxBefore = jdbcTemplate.queryForObject("select count(*) from incident_ticket_outbox", Long.class);
         assertThrows(
             IllegalStateException.class,
             () -> service.createAndFailForRollback(new CreateIncidentTicketRequest("payments-api", 5, "db outage"))
         );
         assertEquals(0, repository.count());
+        assertEquals(outboxBefore, jdbcTemplate.queryForObject("select count(*) from incident_ticket_outbox", Long.class));
     }
 }
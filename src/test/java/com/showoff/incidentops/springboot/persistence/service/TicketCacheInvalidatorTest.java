@@ -0,0 +1,96 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.showoff.incidentops.springboot.persistence.cache.LocalCacheTagGenerations;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TicketCacheInvalidatorTest {
+    @Test
+    void evictTagged_advancesOnlyThoseTagsSoTheirPagesAreNoLongerRead() {
+        List<Object> events = new ArrayList<>();
+        TicketCacheInvalidator invalidator = new TicketCacheInvalidator(
+            new ConcurrentMapCacheManager(),
+            Optional.empty(),
+            events::add
+        );
+        assertEquals("OPEN@0", invalidator.versionedTag("pages", "OPEN"));
+        assertEquals("RESOLVED@0", invalidator.versionedTag("pages", "RESOLVED"));
+
+        invalidator.evictTagged("pages", List.of("OPEN", "CLOSED"));
+
+        assertEquals("OPEN@1", invalidator.versionedTag("pages", "OPEN"));
+        assertEquals("RESOLVED@0", invalidator.versionedTag("pages", "RESOLVED"));
+        assertEquals("OPEN@0", invalidator.versionedTag("other-pages", "OPEN"));
+        assertEquals(List.of(new TicketCacheEvictedEvent("pages", List.of("OPEN", "CLOSED"))), events);
+    }
+
+    @Test
+    void loadRacingAWrite_isStoredUnderAKeyNoLaterReadUses() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        TicketCacheInvalidator invalidator = new TicketCacheInvalidator(cacheManager, Optional.empty(), event -> { });
+        Cache cache = cacheManager.getCache("pages");
+        String keyBeforeWrite = invalidator.versionedTag("pages", "OPEN") + ":0:20";
+
+        invalidator.evictTagged("pages", List.of("OPEN"));
+        cache.put(keyBeforeWrite, "stale page");
+
+        assertNull(cache.get(invalidator.versionedTag("pages", "OPEN") + ":0:20"));
+    }
+
+    @Test
+    void generations_areSharedThroughTheBackendAcrossInvalidators() {
+        LocalCacheTagGenerations generations = new LocalCacheTagGenerations();
+        TicketCacheInvalidator writer = new TicketCacheInvalidator(
+            new ConcurrentMapCacheManager(),
+            Optional.of(generations),
+            event -> { }
+        );
+        TicketCacheInvalidator restartedPeer = new TicketCacheInvalidator(
+            new ConcurrentMapCacheManager(),
+            Optional.of(generations),
+            event -> { }
+        );
+
+        writer.evictTagged("pages", List.of("payments-api"));
+
+        assertEquals("payments-api@1", restartedPeer.versionedTag("pages", "payments-api"));
+    }
+
+    @Test
+    void evictions_waitForTransactionCommit() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        TicketCacheInvalidator invalidator = new TicketCacheInvalidator(cacheManager, Optional.empty(), event -> { });
+        Cache cache = cacheManager.getCache("stats");
+        cache.put("OPEN", "open stats");
+        cache.put("ALL", "all stats");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            invalidator.evict("stats", List.of("OPEN"));
+            invalidator.clear("stats");
+            invalidator.evictTagged("pages", List.of("OPEN"));
+            assertNotNull(cache.get("OPEN"));
+            assertNotNull(cache.get("ALL"));
+            assertEquals("OPEN@0", invalidator.versionedTag("pages", "OPEN"));
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertNull(cache.get("OPEN"));
+        assertNull(cache.get("ALL"));
+        assertEquals("OPEN@1", invalidator.versionedTag("pages", "OPEN"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.showoff.incidentops.springboot.persistence.cache.TicketCacheWarmupProperties;
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsGroup;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatsResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketCacheWarmerTest {
+    @Test
+    void startup_warmsConfiguredStatusPagesAndTopServices() {
+        IncidentTicketQueryService queries = mock(IncidentTicketQueryService.class);
+        when(queries.listByStatus("OPEN", 0, 20)).thenReturn(page(0, true));
+        when(queries.listByStatus("OPEN", 1, 20)).thenReturn(page(1, false));
+        when(queries.getStats(null)).thenReturn(new TicketStatsResponse("ALL", 14, List.of(
+            new TicketStatsGroup("billing-api", 3, "OPEN", 2),
+            new TicketStatsGroup("payments-api", 4, "OPEN", 5),
+            new TicketStatsGroup("search-api", 2, "OPEN", 3),
+            new TicketStatsGroup("search-api", 1, "OPEN", 1),
+            new TicketStatsGroup("ledger-api", 5, "CLOSED", 40)
+        )));
+        when(queries.searchByServiceAndMinSeverity(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(page(0, false));
+        TicketCacheWarmer warmer = new TicketCacheWarmer(queries, properties(List.of("OPEN"), 3, 2, 2), Runnable::run);
+
+        warmer.run(null);
+
+        verify(queries).listByStatus("OPEN", 0, 20);
+        verify(queries).listByStatus("OPEN", 1, 20);
+        verify(queries, never()).listByStatus("OPEN", 2, 20);
+        verify(queries).searchByServiceAndMinSeverity("payments-api", 2, 0, 20);
+        verify(queries).searchByServiceAndMinSeverity("search-api", 2, 0, 20);
+        verify(queries, never()).searchByServiceAndMinSeverity("billing-api", 2, 0, 20);
+        verify(queries, never()).searchByServiceAndMinSeverity("ledger-api", 2, 0, 20);
+    }
+
+    @Test
+    void evictions_rewarmOnlyConfiguredStatusesAndKnownTopServices() {
+        IncidentTicketQueryService queries = mock(IncidentTicketQueryService.class);
+        when(queries.listByStatus(anyString(), anyInt(), anyInt())).thenReturn(page(0, false));
+        when(queries.getStats(null)).thenReturn(new TicketStatsResponse("ALL", 1, List.of(
+            new TicketStatsGroup("payments-api", 4, "OPEN", 1)
+        )));
+        when(queries.searchByServiceAndMinSeverity(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(page(0, false));
+        TicketCacheWarmer warmer = new TicketCacheWarmer(queries, properties(List.of("OPEN"), 1, 5, 1), Runnable::run);
+        warmer.run(null);
+
+        warmer.onEviction(new TicketCacheEvictedEvent(IncidentTicketService.CACHE_STATUS_PAGES, List.of("OPEN", "ACK")));
+        warmer.onEviction(new TicketCacheEvictedEvent(
+            IncidentTicketService.CACHE_SERVICE_SEARCH_PAGES,
+            List.of("payments-api", "billing-api")
+        ));
+        warmer.onEviction(new TicketCacheEvictedEvent(IncidentTicketService.CACHE_STATS_BY_STATUS, List.of()));
+
+        verify(queries, times(2)).listByStatus("OPEN", 0, 20);
+        verify(queries, never()).listByStatus("ACK", 0, 20);
+        verify(queries, times(2)).searchByServiceAndMinSeverity("payments-api", 1, 0, 20);
+        verify(queries, never()).searchByServiceAndMinSeverity("billing-api", 1, 0, 20);
+
+        warmer.onEviction(new TicketCacheEvictedEvent(IncidentTicketService.CACHE_SERVICE_SEARCH_PAGES, null));
+        verify(queries, times(2)).getStats(null);
+        verify(queries, times(3)).searchByServiceAndMinSeverity("payments-api", 1, 0, 20);
+    }
+
+    @Test
+    void pendingRefreshes_coalesceAndFailuresAreSwallowed() {
+        IncidentTicketQueryService queries = mock(IncidentTicketQueryService.class);
+        when(queries.listByStatus("OPEN", 0, 20)).thenThrow(new IllegalStateException("db down"));
+        when(queries.getStats(null)).thenThrow(new IllegalStateException("db down"));
+        List<Runnable> queued = new ArrayList<>();
+        TicketCacheWarmer warmer = new TicketCacheWarmer(queries, properties(List.of("OPEN"), 1, 5, 1), queued::add);
+        warmer.run(null);
+
+        TicketCacheEvictedEvent event = new TicketCacheEvictedEvent(IncidentTicketService.CACHE_STATUS_PAGES, List.of("OPEN"));
+        warmer.onEviction(event);
+        warmer.onEviction(event);
+        assertEquals(1, queued.size());
+        queued.getFirst().run();
+        warmer.onEviction(event);
+        assertEquals(2, queued.size());
+
+        TicketCacheWarmer rejecting = new TicketCacheWarmer(queries, properties(List.of("OPEN"), 1, 5, 1), task -> {
+            throw new RejectedExecutionException("full");
+        });
+        rejecting.onEviction(event);
+        rejecting.onEviction(event);
+        verify(queries, times(2)).listByStatus("OPEN", 0, 20);
+    }
+
+    @Test
+    void properties_rejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> properties(List.of(), 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> properties(List.of(), 1, 101, 1));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new TicketCacheWarmupProperties(true, List.of(), 1, 20, 1, 1, Duration.ZERO)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new TicketCacheWarmupProperties(true, List.of(), 1, 20, 1, 6, Duration.ofSeconds(1))
+        );
+    }
+
+    private static TicketCacheWarmupProperties properties(
+        List<String> statuses,
+        int pages,
+        int topServices,
+        int minSeverity
+    ) {
+        return new TicketCacheWarmupProperties(true, statuses, pages, 20, topServices, minSeverity, Duration.ofSeconds(5));
+    }
+
+    private static Page<IncidentTicketResponse> page(int page, boolean hasNext) {
+        List<IncidentTicketResponse> content = List.of(new IncidentTicketResponse("TKT-1", "payments-api", 4, "s", "OPEN", 0));
+        return new PageImpl<>(content, PageRequest.of(page, 1), hasNext ? page + 2 : page + 1);
+    }
+}
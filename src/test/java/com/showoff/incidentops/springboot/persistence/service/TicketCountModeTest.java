@@ -0,0 +1,17 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TicketCountModeTest {
+    @Test
+    void parse_acceptsKnownModesCaseInsensitively() {
+        assertEquals(TicketCountMode.EXACT, TicketCountMode.parse(null));
+        assertEquals(TicketCountMode.EXACT, TicketCountMode.parse(" "));
+        assertEquals(TicketCountMode.ESTIMATE, TicketCountMode.parse(" Estimate "));
+        assertEquals(TicketCountMode.NONE, TicketCountMode.parse("none"));
+        assertThrows(IllegalArgumentException.class, () -> TicketCountMode.parse("approximate"));
+    }
+}
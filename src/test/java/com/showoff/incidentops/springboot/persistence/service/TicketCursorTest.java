@@ -0,0 +1,41 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TicketCursorTest {
+    @Test
+    void encodeAndDecode_roundTripLastSeenKey() {
+        TicketCursor cursor = TicketCursor.after(
+            new IncidentTicketResponse("TKT-7002", "payments-api", 4, "queue delay", "OPEN", 0)
+        );
+
+        TicketCursor decoded = TicketCursor.decode(cursor.encode());
+
+        assertEquals(4, decoded.severity());
+        assertEquals("TKT-7002", decoded.ticketId());
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decode_rejectsMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> TicketCursor.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> TicketCursor.decode(" "));
+        assertThrows(IllegalArgumentException.class, () -> TicketCursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> TicketCursor.decode(encode("TKT-7002")));
+        assertThrows(IllegalArgumentException.class, () -> TicketCursor.decode(encode("x:TKT-7002")));
+        assertThrows(IllegalArgumentException.class, () -> TicketCursor.decode(encode("9:TKT-7002")));
+        assertThrows(IllegalArgumentException.class, () -> TicketCursor.decode(encode("4:")));
+        assertThrows(IllegalArgumentException.class, () -> TicketCursor.after(null));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,48 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.showoff.incidentops.springboot.persistence.dto.IncidentTicketResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TicketExportFormatTest {
+    @Test
+    void parse_defaultsToNdjsonAndRejectsUnknownFormats() {
+        assertEquals(TicketExportFormat.NDJSON, TicketExportFormat.parse(null));
+        assertEquals(TicketExportFormat.NDJSON, TicketExportFormat.parse(" "));
+        assertEquals(TicketExportFormat.CSV, TicketExportFormat.parse(" Csv "));
+        assertEquals("application/x-ndjson", TicketExportFormat.NDJSON.contentType());
+        assertEquals("csv", TicketExportFormat.CSV.fileExtension());
+        assertThrows(IllegalArgumentException.class, () -> TicketExportFormat.parse("xml"));
+    }
+
+    @Test
+    void ndjson_writesOneEscapedObjectPerLine() throws Exception {
+        StringWriter writer = new StringWriter();
+        TicketExportFormat.NDJSON.writeHeader(writer);
+        TicketExportFormat.NDJSON.writeRow(
+            writer,
+            new IncidentTicketResponse("TKT-7001", "payments-api", 5, "say \"hi\"\\\n\t\r\u0001", null, 3)
+        );
+
+        assertEquals(
+            "{\"ticketId\":\"TKT-7001\",\"serviceId\":\"payments-api\",\"severity\":5,"
+                + "\"summary\":\"say \\\"hi\\\"\\\\\\n\\t\\r\\u0001\",\"status\":null,\"version\":3}\n",
+            writer.toString()
+        );
+    }
+
+    @Test
+    void csv_quotesFieldsContainingDelimiters() throws Exception {
+        StringWriter writer = new StringWriter();
+        TicketExportFormat.CSV.writeRow(
+            writer,
+            new IncidentTicketResponse("TKT-7002", null, 2, "line\nbreak", "OPEN", 0)
+        );
+
+        assertEquals("TKT-7002,,2,\"line\nbreak\",OPEN,0\r\n", writer.toString());
+    }
+}
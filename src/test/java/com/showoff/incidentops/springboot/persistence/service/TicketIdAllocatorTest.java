@@ -0,0 +1,48 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.showoff.incidentops.springboot.persistence.repository.IncidentTicketRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketIdAllocatorTest {
+    @Test
+    void nextTicketId_servesWholeBlockFromSingleSequenceCall() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        when(repository.nextTicketNumberBlock()).thenReturn(5001L, 5051L);
+        TicketIdAllocator allocator = new TicketIdAllocator(repository);
+
+        assertEquals("TKT-5001", allocator.nextTicketId());
+        for (int i = 1; i < TicketIdAllocator.BLOCK_SIZE - 1; i++) {
+            allocator.nextTicketId();
+        }
+        assertEquals("TKT-5050", allocator.nextTicketId());
+        verify(repository, times(1)).nextTicketNumberBlock();
+
+        assertEquals("TKT-5051", allocator.nextTicketId());
+        verify(repository, times(2)).nextTicketNumberBlock();
+    }
+
+    @Test
+    void nextTicketIds_spansBlocksForBulkAllocation() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        when(repository.nextTicketNumberBlock()).thenReturn(5001L, 9001L);
+        TicketIdAllocator allocator = new TicketIdAllocator(repository);
+
+        List<String> ticketIds = allocator.nextTicketIds(TicketIdAllocator.BLOCK_SIZE + 2);
+
+        assertEquals(TicketIdAllocator.BLOCK_SIZE + 2, ticketIds.size());
+        assertEquals("TKT-5001", ticketIds.get(0));
+        assertEquals("TKT-5050", ticketIds.get(TicketIdAllocator.BLOCK_SIZE - 1));
+        assertEquals("TKT-9001", ticketIds.get(TicketIdAllocator.BLOCK_SIZE));
+        assertEquals(List.of(), allocator.nextTicketIds(0));
+        assertThrows(IllegalArgumentException.class, () -> allocator.nextTicketIds(-1));
+    }
+}
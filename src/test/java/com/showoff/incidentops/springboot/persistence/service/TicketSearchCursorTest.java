@@ -0,0 +1,38 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TicketSearchCursorTest {
+    @Test
+    void encodeAndDecode_roundTripRankAndTicketId() {
+        TicketSearchCursor cursor = new TicketSearchCursor(0.0607927f, "TKT-7901");
+
+        TicketSearchCursor decoded = TicketSearchCursor.decode(cursor.encode());
+
+        assertEquals(0.0607927f, decoded.rank());
+        assertEquals("TKT-7901", decoded.ticketId());
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decode_rejectsMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> TicketSearchCursor.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> TicketSearchCursor.decode(" "));
+        assertThrows(IllegalArgumentException.class, () -> TicketSearchCursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> TicketSearchCursor.decode(encode("TKT-7901")));
+        assertThrows(IllegalArgumentException.class, () -> TicketSearchCursor.decode(encode("x:TKT-7901")));
+        assertThrows(IllegalArgumentException.class, () -> TicketSearchCursor.decode(encode("NaN:TKT-7901")));
+        assertThrows(IllegalArgumentException.class, () -> TicketSearchCursor.decode(encode("-1:TKT-7901")));
+        assertThrows(IllegalArgumentException.class, () -> TicketSearchCursor.decode(encode("0.5:")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
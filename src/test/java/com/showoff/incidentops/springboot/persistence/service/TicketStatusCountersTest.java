@@ -0,0 +1,124 @@
+package com.showoff.incidentops.springboot.persistence.service;
+
+import com.showoff.incidentops.springboot.config.TicketCountProperties;
+import com.showoff.incidentops.springboot.persistence.dto.TicketStatusCount;
+import com.showoff.incidentops.springboot.persistence.repository.IncidentTicketRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketStatusCountersTest {
+    @Test
+    void estimate_loadsOnceAndAppliesLocalAdjustments() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        when(repository.countByStatus()).thenReturn(List.of(
+            new TicketStatusCount("OPEN", 10),
+            new TicketStatusCount("RESOLVED", 1)
+        ));
+        TicketStatusCounters counters = new TicketStatusCounters(
+            repository,
+            new TicketCountProperties(Duration.ofHours(1)),
+            Runnable::run
+        );
+
+        counters.adjust("OPEN", 5);
+        assertEquals(10, counters.estimate("OPEN"));
+
+        counters.adjust("OPEN", -1);
+        counters.adjust("ACK", 1);
+        counters.adjust("RESOLVED", -3);
+        assertEquals(9, counters.estimate("OPEN"));
+        assertEquals(1, counters.estimate("ACK"));
+        assertEquals(0, counters.estimate("RESOLVED"));
+        assertEquals(0, counters.estimate("CLOSED"));
+        verify(repository, times(1)).countByStatus();
+
+        counters.invalidate();
+        assertEquals(10, counters.estimate("OPEN"));
+        verify(repository, times(2)).countByStatus();
+    }
+
+    @Test
+    void estimate_reloadsWhenRefreshIntervalElapsed() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        when(repository.countByStatus())
+            .thenReturn(List.of(new TicketStatusCount("OPEN", 3)))
+            .thenReturn(List.of(new TicketStatusCount("OPEN", 7)));
+        TicketStatusCounters counters = new TicketStatusCounters(
+            repository,
+            new TicketCountProperties(Duration.ZERO),
+            Runnable::run
+        );
+
+        assertEquals(3, counters.estimate("OPEN"));
+        assertEquals(7, counters.estimate("OPEN"));
+    }
+
+    @Test
+    void estimate_servesTheLastSnapshotWhileOneReloadRunsInTheBackground() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        when(repository.countByStatus())
+            .thenReturn(List.of(new TicketStatusCount("OPEN", 3)))
+            .thenReturn(List.of(new TicketStatusCount("OPEN", 7)))
+            .thenThrow(new IllegalStateException("db down"));
+        List<Runnable> scheduled = new ArrayList<>();
+        TicketStatusCounters counters = new TicketStatusCounters(
+            repository,
+            new TicketCountProperties(Duration.ZERO),
+            scheduled::add
+        );
+
+        assertEquals(3, counters.estimate("OPEN"));
+        assertEquals(3, counters.estimate("OPEN"));
+        assertEquals(3, counters.estimate("OPEN"));
+        assertEquals(1, scheduled.size());
+        verify(repository, times(1)).countByStatus();
+
+        scheduled.remove(0).run();
+        assertEquals(7, counters.estimate("OPEN"));
+        scheduled.remove(0).run();
+        assertEquals(7, counters.estimate("OPEN"));
+        verify(repository, times(3)).countByStatus();
+    }
+
+    @Test
+    void adjust_waitsForTransactionCommit() {
+        IncidentTicketRepository repository = mock(IncidentTicketRepository.class);
+        when(repository.countByStatus()).thenReturn(List.of(new TicketStatusCount("OPEN", 2)));
+        TicketStatusCounters counters = new TicketStatusCounters(
+            repository,
+            new TicketCountProperties(Duration.ofHours(1)),
+            Runnable::run
+        );
+        counters.estimate("OPEN");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.adjust("OPEN", 1);
+            assertEquals(2, counters.estimate("OPEN"));
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(3, counters.estimate("OPEN"));
+    }
+
+    @Test
+    void properties_rejectNegativeRefreshInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new TicketCountProperties(null));
+        assertThrows(IllegalArgumentException.class, () -> new TicketCountProperties(Duration.ofSeconds(-1)));
+    }
+}
@@ -0,0 +1,100 @@
+package com.showoff.incidentops.springboot.persistence.tuning;
+
+import com.showoff.incidentops.springboot.config.IncidentOpsProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PersistenceTuningPostProcessorTest {
+    @Test
+    void postProcess_appliesPoolAndPostgresDriverSettingsToEveryHikariPool() {
+        PersistenceTuningPostProcessor postProcessor = postProcessor(
+            new IncidentOpsProperties.Persistence(24, 4, Duration.ofSeconds(2), true, 3, 256, 50, true, true)
+        );
+
+        try (HikariDataSource primary = new HikariDataSource(); HikariDataSource other = new HikariDataSource()) {
+            primary.setJdbcUrl("jdbc:postgresql://db:5432/incidentops");
+            assertSame(primary, postProcessor.postProcessBeforeInitialization(primary, "dataSource"));
+            postProcessor.postProcessBeforeInitialization(other, "auditDataSource");
+
+            assertEquals("incidentops-primary", primary.getPoolName());
+            assertEquals(24, primary.getMaximumPoolSize());
+            assertEquals(4, primary.getMinimumIdle());
+            assertEquals(2000, primary.getConnectionTimeout());
+            assertEquals("true", primary.getDataSourceProperties().getProperty("reWriteBatchedInserts"));
+            assertEquals("3", primary.getDataSourceProperties().getProperty("prepareThreshold"));
+            assertEquals("256", primary.getDataSourceProperties().getProperty("preparedStatementCacheQueries"));
+            assertNull(other.getPoolName());
+            assertEquals(24, other.getMaximumPoolSize());
+            assertEquals(2000, other.getConnectionTimeout());
+        }
+    }
+
+    @Test
+    void postProcess_skipsPostgresDriverSettingsForOtherDatabasesAndKeepsPoolName() {
+        PersistenceTuningPostProcessor postProcessor = new PersistenceTuningPostProcessor(
+            new StaticListableBeanFactory().getBeanProvider(IncidentOpsProperties.class)
+        );
+
+        try (HikariDataSource primary = new HikariDataSource()) {
+            primary.setJdbcUrl("jdbc:h2:mem:tuning");
+            primary.setPoolName("custom-pool");
+            postProcessor.postProcessBeforeInitialization(primary, "dataSource");
+
+            assertEquals("custom-pool", primary.getPoolName());
+            assertEquals(10, primary.getMaximumPoolSize());
+            assertFalse(primary.getDataSourceProperties().containsKey("reWriteBatchedInserts"));
+        }
+    }
+
+    @Test
+    void postProcess_addsHibernateBatchingSettingsToEntityManagerFactory() {
+        PersistenceTuningPostProcessor postProcessor = postProcessor(
+            new IncidentOpsProperties.Persistence(10, 10, Duration.ofSeconds(30), true, 5, 256, 100, true, false)
+        );
+        LocalContainerEntityManagerFactoryBean entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+
+        assertSame(entityManagerFactory, postProcessor.postProcessBeforeInitialization(entityManagerFactory, "entityManagerFactory"));
+        assertSame("other", postProcessor.postProcessBeforeInitialization("other", "dataSource"));
+
+        assertEquals("100", entityManagerFactory.getJpaPropertyMap().get("hibernate.jdbc.batch_size"));
+        assertEquals("true", entityManagerFactory.getJpaPropertyMap().get("hibernate.order_inserts"));
+        assertEquals("false", entityManagerFactory.getJpaPropertyMap().get("hibernate.order_updates"));
+        assertEquals("true", entityManagerFactory.getJpaPropertyMap().get("hibernate.jdbc.batch_versioned_data"));
+    }
+
+    @Test
+    void properties_validatePoolAndBatchSettings() {
+        Duration timeout = Duration.ofSeconds(30);
+        new IncidentOpsProperties.Persistence(10, 0, timeout, false, 0, 0, 1, false, false);
+        assertEquals(5, new IncidentOpsProperties.Persistence(5, null, timeout, true, 5, 256, 50, true, true).minimumIdle());
+        assertEquals(10, IncidentOpsProperties.Persistence.DEFAULTS.minimumIdle());
+
+        assertThrows(IllegalArgumentException.class, () -> new IncidentOpsProperties.Persistence(0, 0, timeout, true, 5, 256, 50, true, true));
+        assertThrows(IllegalArgumentException.class, () -> new IncidentOpsProperties.Persistence(10, 11, timeout, true, 5, 256, 50, true, true));
+        assertThrows(IllegalArgumentException.class, () -> new IncidentOpsProperties.Persistence(10, -1, timeout, true, 5, 256, 50, true, true));
+        assertThrows(IllegalArgumentException.class, () -> new IncidentOpsProperties.Persistence(10, 10, null, true, 5, 256, 50, true, true));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new IncidentOpsProperties.Persistence(10, 10, Duration.ofMillis(100), true, 5, 256, 50, true, true)
+        );
+        assertThrows(IllegalArgumentException.class, () -> new IncidentOpsProperties.Persistence(10, 10, timeout, true, -1, 256, 50, true, true));
+        assertThrows(IllegalArgumentException.class, () -> new IncidentOpsProperties.Persistence(10, 10, timeout, true, 5, -1, 50, true, true));
+        assertThrows(IllegalArgumentException.class, () -> new IncidentOpsProperties.Persistence(10, 10, timeout, true, 5, 256, 0, true, true));
+    }
+
+    private static PersistenceTuningPostProcessor postProcessor(IncidentOpsProperties.Persistence persistence) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("incidentOpsProperties", new IncidentOpsProperties(null, null, null, null, null, persistence));
+        return new PersistenceTuningPostProcessor(beanFactory.getBeanProvider(IncidentOpsProperties.class));
+    }
+}
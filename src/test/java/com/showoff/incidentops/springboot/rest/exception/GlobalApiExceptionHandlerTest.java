@@ -1,6 +1,9 @@
 package com.showoff.incidentops.springboot.rest.exception;
 
 import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketNotFoundException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketTransitionException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketUpdateConflictException;
+import com.showoff.incidentops.springboot.persistence.exception.IncidentTicketVersionConflictException;
 import com.showoff.incidentops.springboot.rest.pipeline.ApiCorrelationFilter;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
@@ -62,4 +65,46 @@ class GlobalApiExceptionHandlerTest {
         assertEquals("n/a", response.getBody().path());
         assertEquals("n/a", response.getBody().correlationId());
     }
+
+    @Test
+    void handler_mapsTicketVersionConflictToPreconditionFailed() {
+        GlobalApiExceptionHandler handler = new GlobalApiExceptionHandler();
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/v4/tickets/TKT-1/status");
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleTicketVersionConflict(
+            new IncidentTicketVersionConflictException("stale version"),
+            request
+        );
+
+        assertEquals(412, response.getStatusCode().value());
+        assertEquals("TICKET_VERSION_CONFLICT", response.getBody().code());
+    }
+
+    @Test
+    void handler_mapsExhaustedUpdateRetriesToConflict() {
+        GlobalApiExceptionHandler handler = new GlobalApiExceptionHandler();
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/v4/tickets/TKT-1/status");
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleTicketUpdateConflict(
+            new IncidentTicketUpdateConflictException("ticket TKT-1 is being updated concurrently, retry later"),
+            request
+        );
+
+        assertEquals(409, response.getStatusCode().value());
+        assertEquals("TICKET_UPDATE_CONFLICT", response.getBody().code());
+    }
+
+    @Test
+    void handler_mapsIllegalTicketTransitionToConflict() {
+        GlobalApiExceptionHandler handler = new GlobalApiExceptionHandler();
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/api/v4/tickets/TKT-1/status");
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleTicketTransitionConflict(
+            new IncidentTicketTransitionException("ticket TKT-1 cannot transition from CLOSED to OPEN"),
+            request
+        );
+
+        assertEquals(409, response.getStatusCode().value());
+        assertEquals("TICKET_TRANSITION_CONFLICT", response.getBody().code());
+    }
 }